@@ -1,7 +1,9 @@
 package com.weave.domain.location.controller;
 
+import com.weave.domain.location.dto.LocationNearbyDto;
 import com.weave.domain.location.dto.LocationRequestDto;
 import com.weave.domain.location.dto.LocationResponseDto;
+import com.weave.domain.location.dto.LocationTrailPageDto;
 import com.weave.domain.location.service.LocationService;
 import com.weave.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -46,4 +49,36 @@ public class LocationController {
       @PathVariable("workspaceId") String workspaceId) {
     return ApiResponse.ok(locationService.getLocations(workspaceId));
   }
+
+  @SecurityRequirement(name = "JWT")
+  @Tag(name = "LOCATION")
+  @Operation(summary = "주변 참여자 조회", description = "기준 지점(생략 시 내 위치) 반경 내 참여자를 가까운 순으로 조회합니다.")
+  @GetMapping("/nearby")
+  public ApiResponse<List<LocationNearbyDto>> getNearbyMembers(
+      @PathVariable("workspaceId") String workspaceId,
+      @RequestParam(value = "latitude", required = false) Double latitude,
+      @RequestParam(value = "longitude", required = false) Double longitude,
+      @RequestParam(value = "radius", required = false) Double radius,
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return ApiResponse.ok(locationService.getNearbyMembers(workspaceId,
+        userDetails.getUsername(), latitude, longitude, radius, limit));
+  }
+
+  @SecurityRequirement(name = "JWT")
+  @Tag(name = "LOCATION")
+  @Operation(summary = "참여자 이동 경로 조회",
+      description = "지정한 기간(epoch ms, 보관 기간 이내) 동안 참여자의 이동 경로를 조회합니다. "
+          + "남은 점이 있으면 nextFrom을 from으로 다시 요청합니다.")
+  @GetMapping("/trail")
+  public ApiResponse<LocationTrailPageDto> getTrail(
+      @PathVariable("workspaceId") String workspaceId,
+      @RequestParam("userId") String userId,
+      @RequestParam("from") long from,
+      @RequestParam("to") long to,
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return ApiResponse.ok(locationService.getTrail(workspaceId, userDetails.getUsername(), userId,
+        from, to, limit));
+  }
 }
@@ -2,8 +2,11 @@ package com.weave.domain.location.controller;
 
 import com.weave.domain.location.dto.LocationRequestDto;
 import com.weave.domain.location.dto.LocationResponseDto;
+import com.weave.domain.location.dto.LocationSamplingHintDto;
+import com.weave.domain.location.service.LocationRelayManager;
 import com.weave.domain.location.service.LocationService;
 import com.weave.domain.location.service.RedisMessageBroker;
+import com.weave.domain.locationreminder.service.GeofenceEngine;
 import java.security.Principal;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +18,9 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 @Slf4j
 @Controller
@@ -24,7 +29,9 @@ public class LocationStompController {
 
   private final LocationService locationService;
   private final RedisMessageBroker redisMessageBroker;
+  private final LocationRelayManager relayManager;
   private final SimpMessagingTemplate messagingTemplate;
+  private final GeofenceEngine geofenceEngine;
 
   /**
    * 위치 업데이트 수신 클라이언트 -> 서버: /app/workspace/{workspaceId}/location
@@ -44,11 +51,22 @@ public class LocationStompController {
 
     String userEmail = principal.getName();
 
-    // 위치 저장
-    LocationResponseDto response = locationService.saveLocation(workspaceId, dto, userEmail);
+    // 위치 갱신 (저장은 버퍼에서 주기적으로 일괄 반영, 이동이 없거나 위치 공유를 끈 경우 null)
+    LocationResponseDto response = locationService.updateLocation(workspaceId, dto, userEmail);
 
     // Redis를 통해 모든 서버의 클라이언트에게 브로드캐스트
-    redisMessageBroker.publish(workspaceId, response);
+    if (response != null) {
+      redisMessageBroker.publish(workspaceId, response);
+      // 위치 알림 지오펜스 도착 판정 (메모리 인덱스)
+      geofenceEngine.evaluate(workspaceId, response.getUserId(), response.getLatitude(),
+          response.getLongitude());
+    }
+
+    // 시청자 수 변화 시 권장 전송 주기 안내
+    LocationSamplingHintDto hint = locationService.getSamplingHint(workspaceId, userEmail);
+    if (hint != null) {
+      messagingTemplate.convertAndSendToUser(userEmail, "/queue/location.hint", hint);
+    }
   }
 
   /**
@@ -105,26 +123,26 @@ public class LocationStompController {
           log.warn("Subscribe event without user principal for workspace {}", workspaceId);
         }
 
-        // Redis 구독 시작 (자동으로 브로드캐스트됨)
-        subscribeToRedis(workspaceId);
+        // Redis -> STOMP 릴레이 참조 등록 (워크스페이스당 1개)
+        relayManager.acquire(accessor.getSessionId(), accessor.getSubscriptionId(), workspaceId);
       }
     }
   }
 
   /**
-   * Redis에서 받은 위치 업데이트를 STOMP 클라이언트들에게 브로드캐스트
+   * 구독 해제 시 릴레이 참조 해제
+   */
+  @EventListener
+  public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    relayManager.release(accessor.getSessionId(), accessor.getSubscriptionId());
+  }
+
+  /**
+   * 연결 종료 시 세션의 모든 릴레이 참조 해제
    */
-  private void subscribeToRedis(String workspaceId) {
-    redisMessageBroker.subscribe(workspaceId)
-        .subscribe(
-            location -> {
-              // 워크스페이스를 구독 중인 모든 클라이언트에게 브로드캐스트
-              messagingTemplate.convertAndSend(
-                  "/topic/workspace/" + workspaceId + "/locations",
-                  location
-              );
-            },
-            error -> log.error("Error in Redis subscription for workspace {}", workspaceId, error)
-        );
+  @EventListener
+  public void handleDisconnect(SessionDisconnectEvent event) {
+    relayManager.releaseSession(event.getSessionId());
   }
 }
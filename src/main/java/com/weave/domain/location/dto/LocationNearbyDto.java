@@ -0,0 +1,40 @@
+package com.weave.domain.location.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Date;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LocationNearbyDto {
+
+  @Schema(description = "사용자 ID")
+  private String userId;
+
+  @Schema(description = "사용자 이름")
+  private String userName;
+
+  @Schema(description = "위도")
+  private Double latitude;
+
+  @Schema(description = "경도")
+  private Double longitude;
+
+  @Schema(description = "위치 업데이트 시간")
+  private Date timestamp;
+
+  @Schema(description = "기준 지점과의 거리 (미터)")
+  private Double distanceMeters;
+
+  public static LocationNearbyDto from(LocationResponseDto location, double distanceMeters) {
+    return LocationNearbyDto.builder()
+        .userId(location.getUserId())
+        .userName(location.getUserName())
+        .latitude(location.getLatitude())
+        .longitude(location.getLongitude())
+        .timestamp(location.getTimestamp())
+        .distanceMeters(distanceMeters)
+        .build();
+  }
+}
@@ -0,0 +1,22 @@
+package com.weave.domain.location.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LocationSamplingHintDto {
+
+  @Schema(description = "워크스페이스 ID")
+  private String workspaceId;
+
+  @Schema(description = "현재 위치를 보고 있는 구독 수")
+  private Integer viewers;
+
+  @Schema(description = "권장 위치 전송 주기 (밀리초)")
+  private Long suggestedIntervalMs;
+
+  @Schema(description = "권장 최소 이동 거리 (미터)")
+  private Double minDistanceMeters;
+}
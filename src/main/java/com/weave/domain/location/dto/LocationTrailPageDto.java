@@ -0,0 +1,17 @@
+package com.weave.domain.location.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LocationTrailPageDto {
+
+  @Schema(description = "이동 경로 점 (시간 순)")
+  private List<LocationTrailPointDto> points;
+
+  @Schema(description = "다음 페이지 조회 시 from으로 사용할 시각 (epoch ms, 마지막 페이지면 null)")
+  private Long nextFrom;
+}
@@ -0,0 +1,20 @@
+package com.weave.domain.location.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Date;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LocationTrailPointDto {
+
+  @Schema(description = "위도")
+  private Double latitude;
+
+  @Schema(description = "경도")
+  private Double longitude;
+
+  @Schema(description = "위치 시각")
+  private Date timestamp;
+}
@@ -0,0 +1,55 @@
+package com.weave.domain.location.entity;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 위치 이동 경로 청크
+ * 사용자별 연속 위치를 시간 구간 단위로 묶어 delta + varint 인코딩한 바이트 배열로 저장
+ * (LocationTrailCodec 참고)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "location_trails")
+@CompoundIndex(name = "workspace_user_start_idx", def = "{'workspace_id': 1, 'user_id': 1, 'start_time': 1}")
+public class LocationTrailChunk {
+
+  @Id
+  private ObjectId id;
+
+  @Field("workspace_id")
+  private ObjectId workspaceId;
+
+  @Field("user_id")
+  private ObjectId userId;
+
+  @Field("start_time")
+  private Date startTime;
+
+  @Field("end_time")
+  private Date endTime;
+
+  @Field("point_count")
+  private Integer pointCount;
+
+  @Field("data")
+  private byte[] data;
+
+  /**
+   * 보관 만료 시각 (TTL 인덱스)
+   */
+  @Indexed(expireAfterSeconds = 0)
+  @Field("expire_at")
+  private Date expireAt;
+}
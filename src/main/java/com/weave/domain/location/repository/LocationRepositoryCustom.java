@@ -1,6 +1,7 @@
 package com.weave.domain.location.repository;
 
 import com.weave.domain.location.entity.Location;
+import java.util.Collection;
 import org.bson.types.ObjectId;
 
 public interface LocationRepositoryCustom {
@@ -10,4 +11,10 @@ public interface LocationRepositoryCustom {
    * workspace_id + user_id 기준으로 단일 문서 유지
    */
   Location upsertLocation(ObjectId workspaceId, ObjectId userId, Double latitude, Double longitude);
+
+  /**
+   * 사용자별 최신 위치 일괄 upsert (단일 bulk write)
+   * workspace_id + user_id 기준으로 단일 문서 유지
+   */
+  void bulkUpsertLocations(Collection<Location> locations);
 }
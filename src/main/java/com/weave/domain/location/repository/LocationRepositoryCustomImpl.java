@@ -1,9 +1,11 @@
 package com.weave.domain.location.repository;
 
 import com.weave.domain.location.entity.Location;
+import java.util.Collection;
 import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -35,4 +37,27 @@ public class LocationRepositoryCustomImpl implements LocationRepositoryCustom {
 
     return mongoTemplate.findAndModify(query, update, options, Location.class);
   }
+
+  @Override
+  public void bulkUpsertLocations(Collection<Location> locations) {
+    if (locations.isEmpty()) {
+      return;
+    }
+
+    BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Location.class);
+    for (Location location : locations) {
+      Query query = new Query(Criteria.where("workspace_id").is(location.getWorkspaceId())
+          .and("user_id").is(location.getUserId()));
+
+      Update update = new Update()
+          .set("latitude", location.getLatitude())
+          .set("longitude", location.getLongitude())
+          .set("timestamp", location.getTimestamp())
+          .setOnInsert("workspace_id", location.getWorkspaceId())
+          .setOnInsert("user_id", location.getUserId());
+
+      bulkOps.upsert(query, update);
+    }
+    bulkOps.execute();
+  }
 }
@@ -0,0 +1,24 @@
+package com.weave.domain.location.repository;
+
+import com.weave.domain.location.entity.LocationTrailChunk;
+import java.util.Date;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LocationTrailRepository extends MongoRepository<LocationTrailChunk, ObjectId> {
+
+  /**
+   * 조회 구간과 겹치는 청크를 시작 시각 순으로 커서 조회
+   * (workspace_id, user_id, start_time) 인덱스 순차 스캔
+   */
+  Stream<LocationTrailChunk> findByWorkspaceIdAndUserIdAndStartTimeLessThanEqualAndEndTimeGreaterThanEqualOrderByStartTimeAsc(
+      ObjectId workspaceId, ObjectId userId, Date to, Date from);
+
+  /**
+   * 특정 사용자의 모든 이동 경로 삭제 (회원 탈퇴용)
+   */
+  void deleteByUserId(ObjectId userId);
+}
@@ -0,0 +1,92 @@
+package com.weave.domain.location.service;
+
+import com.weave.domain.location.dto.LocationResponseDto;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치 프레임 압축 바이너리 코덱 (Redis 구간 전용)
+ * [version:1][flags:1][userId:12][id:12 (flags&1)][lat:int32][lon:int32][timestamp:int64][nameLen:uint16][name:utf8]
+ * - 위경도는 1e7 배율 정수 (약 1cm 정밀도)
+ * - 워크스페이스 ID는 채널명으로 전달되므로 프레임에 포함하지 않음
+ */
+@Component
+public class LocationFrameCodec {
+
+  private static final byte VERSION = 1;
+  private static final byte FLAG_HAS_ID = 1;
+  private static final double COORDINATE_SCALE = 1e7;
+  private static final int MAX_NAME_BYTES = 512;
+  private static final int BUFFER_SIZE = 64 + MAX_NAME_BYTES;
+
+  // 스레드별 재사용 버퍼 (프레임당 할당은 결과 byte[] 1개)
+  private static final ThreadLocal<ByteBuffer> BUFFERS =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocate(BUFFER_SIZE));
+
+  public byte[] encode(LocationResponseDto location) {
+    ByteBuffer buffer = BUFFERS.get();
+    buffer.clear();
+
+    boolean hasId = location.getId() != null && ObjectId.isValid(location.getId());
+    buffer.put(VERSION);
+    buffer.put(hasId ? FLAG_HAS_ID : 0);
+    buffer.put(new ObjectId(location.getUserId()).toByteArray());
+    if (hasId) {
+      buffer.put(new ObjectId(location.getId()).toByteArray());
+    }
+    buffer.putInt(scale(location.getLatitude()));
+    buffer.putInt(scale(location.getLongitude()));
+    buffer.putLong(location.getTimestamp() != null ? location.getTimestamp().getTime() : 0L);
+
+    byte[] name = location.getUserName() != null
+        ? location.getUserName().getBytes(StandardCharsets.UTF_8)
+        : new byte[0];
+    int nameLength = Math.min(name.length, MAX_NAME_BYTES);
+    buffer.putShort((short) nameLength);
+    buffer.put(name, 0, nameLength);
+
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  public LocationResponseDto decode(String workspaceId, byte[] frame) {
+    ByteBuffer buffer = ByteBuffer.wrap(frame);
+
+    byte version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported location frame version: " + version);
+    }
+
+    byte flags = buffer.get();
+    ObjectId userId = readObjectId(buffer);
+    ObjectId id = (flags & FLAG_HAS_ID) != 0 ? readObjectId(buffer) : null;
+    double latitude = buffer.getInt() / COORDINATE_SCALE;
+    double longitude = buffer.getInt() / COORDINATE_SCALE;
+    long timestamp = buffer.getLong();
+    int nameLength = Short.toUnsignedInt(buffer.getShort());
+    String userName = new String(frame, buffer.position(), nameLength, StandardCharsets.UTF_8);
+
+    return LocationResponseDto.builder()
+        .id(id != null ? id.toString() : null)
+        .workspaceId(workspaceId)
+        .userId(userId.toString())
+        .userName(userName)
+        .latitude(latitude)
+        .longitude(longitude)
+        .timestamp(timestamp > 0 ? new Date(timestamp) : null)
+        .build();
+  }
+
+  private int scale(Double coordinate) {
+    return coordinate != null ? (int) Math.round(coordinate * COORDINATE_SCALE) : 0;
+  }
+
+  private ObjectId readObjectId(ByteBuffer buffer) {
+    byte[] bytes = new byte[12];
+    buffer.get(bytes);
+    return new ObjectId(bytes);
+  }
+}
@@ -0,0 +1,192 @@
+package com.weave.domain.location.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weave.domain.location.dto.LocationResponseDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.DistanceUnit;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoSearchCommandArgs;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.stereotype.Service;
+
+/**
+ * 실시간 위치 저장소 (Redis Hash + Geo)
+ * 워크스페이스별 해시(workspace:locations:{workspaceId})에 userId -> 최신 위치(사용자 이름 포함)를 보관
+ * 같은 위치를 Geo 인덱스(workspace:locations:geo:{workspaceId})에도 기록해 반경 검색에 사용
+ * 스냅샷 조회는 HVALS 1회로 처리하고, Mongo는 LocationWriteBuffer를 통해 비동기로 저장
+ */
+@Slf4j
+@Service
+public class LocationLiveStore {
+
+  private static final String KEY_PREFIX = "workspace:locations:";
+  private static final String GEO_KEY_PREFIX = "workspace:locations:geo:";
+  private static final Duration KEY_TTL = Duration.ofDays(1);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  public LocationLiveStore(
+      RedisTemplate<String, Object> redisTemplate,
+      @Qualifier("redisObjectMapper") ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * 사용자 최신 위치 저장
+   */
+  public void put(LocationResponseDto location) {
+    String key = KEY_PREFIX + location.getWorkspaceId();
+    try {
+      redisTemplate.opsForHash().put(key, location.getUserId(), location);
+      redisTemplate.expire(key, KEY_TTL);
+
+      String geoKey = GEO_KEY_PREFIX + location.getWorkspaceId();
+      redisTemplate.opsForGeo().add(geoKey,
+          new Point(location.getLongitude(), location.getLatitude()), location.getUserId());
+      redisTemplate.expire(geoKey, KEY_TTL);
+    } catch (Exception e) {
+      log.warn("Failed to store live location for workspace {}: {}", location.getWorkspaceId(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * 워크스페이스 위치 일괄 저장 (Mongo 조회 결과로 캐시 워밍)
+   */
+  public void putAll(String workspaceId, List<LocationResponseDto> locations) {
+    if (locations.isEmpty()) {
+      return;
+    }
+
+    String key = KEY_PREFIX + workspaceId;
+    Map<String, LocationResponseDto> entries = locations.stream()
+        .collect(Collectors.toMap(LocationResponseDto::getUserId, Function.identity(), (a, b) -> b));
+    try {
+      redisTemplate.opsForHash().putAll(key, entries);
+      redisTemplate.expire(key, KEY_TTL);
+
+      String geoKey = GEO_KEY_PREFIX + workspaceId;
+      Map<Object, Point> points = new HashMap<>();
+      entries.forEach((userId, location) ->
+          points.put(userId, new Point(location.getLongitude(), location.getLatitude())));
+      redisTemplate.opsForGeo().add(geoKey, points);
+      redisTemplate.expire(geoKey, KEY_TTL);
+    } catch (Exception e) {
+      log.warn("Failed to warm live locations for workspace {}: {}", workspaceId, e.getMessage());
+    }
+  }
+
+  /**
+   * 워크스페이스 최신 위치 스냅샷 조회 (저장소에 없거나 조회 실패 시 null)
+   */
+  public List<LocationResponseDto> snapshot(String workspaceId) {
+    try {
+      List<Object> values = redisTemplate.opsForHash().values(KEY_PREFIX + workspaceId);
+      if (values.isEmpty()) {
+        return null;
+      }
+      return values.stream()
+          .map(value -> objectMapper.convertValue(value, LocationResponseDto.class))
+          .collect(Collectors.toList());
+    } catch (Exception e) {
+      log.warn("Failed to read live locations for workspace {}: {}", workspaceId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 사용자 최신 위치 조회 (없거나 조회 실패 시 null)
+   */
+  public LocationResponseDto get(String workspaceId, String userId) {
+    try {
+      Object value = redisTemplate.opsForHash().get(KEY_PREFIX + workspaceId, userId);
+      return value != null ? objectMapper.convertValue(value, LocationResponseDto.class) : null;
+    } catch (Exception e) {
+      log.warn("Failed to read live location for workspace {}: {}", workspaceId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 여러 사용자 최신 위치 조회 (HMGET, 요청 순서 유지, 없는 사용자는 제외)
+   */
+  public List<LocationResponseDto> getAll(String workspaceId, List<String> userIds) {
+    if (userIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    try {
+      List<Object> values = redisTemplate.opsForHash()
+          .multiGet(KEY_PREFIX + workspaceId, new ArrayList<>(userIds));
+      return values.stream()
+          .filter(Objects::nonNull)
+          .map(value -> objectMapper.convertValue(value, LocationResponseDto.class))
+          .collect(Collectors.toList());
+    } catch (Exception e) {
+      log.warn("Failed to read live locations for workspace {}: {}", workspaceId, e.getMessage());
+      return new ArrayList<>();
+    }
+  }
+
+  /**
+   * 반경 내 사용자 검색 (GEOSEARCH, 가까운 순)
+   *
+   * @return userId -> 거리(m), Geo 인덱스가 없거나 조회 실패 시 null
+   */
+  public Map<String, Double> searchNearby(String workspaceId, double latitude, double longitude,
+      double radiusMeters, int limit) {
+    String geoKey = GEO_KEY_PREFIX + workspaceId;
+    try {
+      GeoResults<GeoLocation<Object>> results = redisTemplate.opsForGeo().search(geoKey,
+          GeoReference.fromCoordinate(longitude, latitude),
+          new Distance(radiusMeters, DistanceUnit.METERS),
+          GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending().limit(limit));
+
+      if (results == null || results.getContent().isEmpty()) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(geoKey)) ? new LinkedHashMap<>() : null;
+      }
+
+      Map<String, Double> nearby = new LinkedHashMap<>();
+      for (GeoResult<GeoLocation<Object>> result : results.getContent()) {
+        nearby.put(String.valueOf(result.getContent().getName()), result.getDistance().getValue());
+      }
+      return nearby;
+    } catch (Exception e) {
+      log.warn("Failed to search nearby locations for workspace {}: {}", workspaceId,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 사용자 위치 제거 (위치 공유 해제, 이름 변경, 탈퇴 시)
+   */
+  public void removeUser(String userId, Collection<String> workspaceIds) {
+    for (String workspaceId : workspaceIds) {
+      try {
+        redisTemplate.opsForHash().delete(KEY_PREFIX + workspaceId, userId);
+        redisTemplate.opsForGeo().remove(GEO_KEY_PREFIX + workspaceId, userId);
+      } catch (Exception e) {
+        log.warn("Failed to remove live location for workspace {}: {}", workspaceId, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.weave.domain.location.service;
+
+import java.util.function.Consumer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutboundChannel 인터셉터
+ * 세션별 위치 프레임이 WebSocket 세션으로 전달 처리된 시점을 LocationSessionOutbox에 알림
+ */
+@Component
+public class LocationOutboundInterceptor implements ExecutorChannelInterceptor {
+
+  public static final String LOCATION_FRAME_HEADER = "locationFrame";
+
+  private volatile Consumer<String> deliveredListener;
+
+  public void setDeliveredListener(Consumer<String> deliveredListener) {
+    this.deliveredListener = deliveredListener;
+  }
+
+  @Override
+  public void afterMessageHandled(Message<?> message, MessageChannel channel,
+      MessageHandler handler, Exception ex) {
+    Consumer<String> listener = deliveredListener;
+    if (listener == null || !Boolean.TRUE.equals(message.getHeaders().get(LOCATION_FRAME_HEADER))) {
+      return;
+    }
+
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    if (sessionId != null) {
+      listener.accept(sessionId);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.weave.domain.location.service;
+
+import com.weave.domain.location.dto.LocationNearbyDto;
+import com.weave.domain.location.dto.LocationResponseDto;
+import com.weave.global.BusinessException;
+import com.weave.global.ErrorCode;
+import com.weave.global.util.GeoUtils;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 워크스페이스 멤버 근접 검색
+ * 실시간 위치 저장소의 Geo 인덱스로 반경 내 멤버를 가까운 순으로 조회해 필요한 개수만 반환
+ * Geo 인덱스가 아직 없으면 전체 위치로 거리 계산 후 인덱스를 다시 채움
+ */
+@Service
+public class LocationProximityService {
+
+  private final LocationLiveStore locationLiveStore;
+  private final double defaultRadiusMeters;
+  private final double maxRadiusMeters;
+  private final int defaultLimit;
+  private final int maxLimit;
+
+  public LocationProximityService(
+      LocationLiveStore locationLiveStore,
+      @Value("${location.nearby.default-radius-meters:1000}") double defaultRadiusMeters,
+      @Value("${location.nearby.max-radius-meters:50000}") double maxRadiusMeters,
+      @Value("${location.nearby.default-limit:10}") int defaultLimit,
+      @Value("${location.nearby.max-limit:50}") int maxLimit) {
+    this.locationLiveStore = locationLiveStore;
+    this.defaultRadiusMeters = defaultRadiusMeters;
+    this.maxRadiusMeters = maxRadiusMeters;
+    this.defaultLimit = defaultLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  /**
+   * 반경 내 멤버 조회 (가까운 순)
+   * 기준 좌표가 없으면 요청한 사용자의 최신 위치를 기준으로 하고 본인은 결과에서 제외
+   *
+   * @param fallback Geo 인덱스가 없을 때 사용할 워크스페이스 전체 위치
+   */
+  public List<LocationNearbyDto> findNearby(String workspaceId, String userId, Double latitude,
+      Double longitude, Double radiusMeters, Integer limit,
+      Supplier<List<LocationResponseDto>> fallback) {
+    double radius = Math.min(radiusMeters != null && radiusMeters > 0 ? radiusMeters
+        : defaultRadiusMeters, maxRadiusMeters);
+    int size = Math.min(limit != null && limit > 0 ? limit : defaultLimit, maxLimit);
+
+    boolean fromSelf = latitude == null || longitude == null;
+    List<LocationResponseDto> all = null;
+    if (fromSelf) {
+      LocationResponseDto self = locationLiveStore.get(workspaceId, userId);
+      if (self == null) {
+        all = fallback.get();
+        self = all.stream()
+            .filter(location -> userId.equals(location.getUserId()))
+            .findFirst()
+            .orElseThrow(() -> new BusinessException(ErrorCode.BAD_REQUEST));
+      }
+      latitude = self.getLatitude();
+      longitude = self.getLongitude();
+    }
+
+    String excludedUserId = fromSelf ? userId : null;
+    Map<String, Double> hits = all == null
+        ? locationLiveStore.searchNearby(workspaceId, latitude, longitude, radius,
+        fromSelf ? size + 1 : size)
+        : null;
+
+    if (hits == null) {
+      if (all == null) {
+        all = fallback.get();
+      }
+      locationLiveStore.putAll(workspaceId, all);
+      return rank(all, latitude, longitude, radius, size, excludedUserId);
+    }
+
+    hits.remove(excludedUserId);
+    List<LocationNearbyDto> nearby = new ArrayList<>();
+    for (LocationResponseDto location : locationLiveStore.getAll(workspaceId,
+        new ArrayList<>(hits.keySet()))) {
+      nearby.add(LocationNearbyDto.from(location, hits.get(location.getUserId())));
+      if (nearby.size() >= size) {
+        break;
+      }
+    }
+    return nearby;
+  }
+
+  private List<LocationNearbyDto> rank(List<LocationResponseDto> locations, double latitude,
+      double longitude, double radius, int size, String excludedUserId) {
+    return locations.stream()
+        .filter(location -> !location.getUserId().equals(excludedUserId))
+        .map(location -> LocationNearbyDto.from(location, GeoUtils.distanceMeters(
+            latitude, longitude, location.getLatitude(), location.getLongitude())))
+        .filter(nearby -> nearby.getDistanceMeters() <= radius)
+        .sorted(Comparator.comparingDouble(LocationNearbyDto::getDistanceMeters))
+        .limit(size)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,234 @@
+package com.weave.domain.location.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+
+/**
+ * Redis -> STOMP 위치 릴레이 관리
+ * 워크스페이스당 노드별 릴레이 1개만 유지하고, STOMP 구독 수로 참조 카운팅하여
+ * 마지막 세션이 구독 해제/연결 종료하면 릴레이를 정리
+ * 위치는 토픽 브로드캐스트 대신 세션별 전송 큐(LocationSessionOutbox)로 전달
+ */
+@Slf4j
+@Service
+public class LocationRelayManager {
+
+  private static final String VIEWERS_KEY_PREFIX = "workspace:location:viewers:";
+  private static final Duration VIEWERS_TTL = Duration.ofSeconds(90);
+
+  private final RedisMessageBroker redisMessageBroker;
+  private final LocationSessionOutbox sessionOutbox;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  // 워크스페이스 전체 노드 시청자 수 (짧은 캐시)
+  private final Cache<String, Integer> viewerCounts = CacheBuilder.newBuilder()
+      .expireAfterWrite(5, TimeUnit.SECONDS)
+      .maximumSize(10_000)
+      .build();
+
+  // 워크스페이스별 릴레이
+  private final Map<String, Relay> relays = new ConcurrentHashMap<>();
+
+  // 세션별 구독 (subscriptionId -> workspaceId)
+  private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+
+  public LocationRelayManager(
+      RedisMessageBroker redisMessageBroker,
+      LocationSessionOutbox sessionOutbox,
+      RedisTemplate<String, Object> redisTemplate,
+      MeterRegistry meterRegistry) {
+    this.redisMessageBroker = redisMessageBroker;
+    this.sessionOutbox = sessionOutbox;
+    this.redisTemplate = redisTemplate;
+    Gauge.builder("location.relay.active", relays, Map::size)
+        .description("Active Redis-to-STOMP location relays on this node")
+        .register(meterRegistry);
+  }
+
+  public static String destination(String workspaceId) {
+    return "/topic/workspace/" + workspaceId + "/locations";
+  }
+
+  /**
+   * STOMP 구독 등록 (첫 구독 시 릴레이 시작)
+   */
+  public synchronized void acquire(String sessionId, String subscriptionId, String workspaceId) {
+    Map<String, String> subscriptions = sessionSubscriptions
+        .computeIfAbsent(sessionId, k -> new HashMap<>());
+    if (subscriptions.putIfAbsent(subscriptionId, workspaceId) != null) {
+      return;
+    }
+
+    Relay relay = relays.get(workspaceId);
+    if (relay == null) {
+      relay = new Relay();
+      relays.put(workspaceId, relay);
+      relay.subscribers.put(sessionId + ":" + subscriptionId, new Subscriber(sessionId, subscriptionId));
+      relay.subscription = startRelay(workspaceId, relay);
+      log.info("Started location relay for workspace {}", workspaceId);
+    } else {
+      relay.subscribers.put(sessionId + ":" + subscriptionId, new Subscriber(sessionId, subscriptionId));
+    }
+    publishViewerCount(workspaceId, relay.subscribers.size());
+  }
+
+  /**
+   * STOMP 구독 해제
+   */
+  public synchronized void release(String sessionId, String subscriptionId) {
+    Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+    if (subscriptions == null) {
+      return;
+    }
+
+    String workspaceId = subscriptions.remove(subscriptionId);
+    if (subscriptions.isEmpty()) {
+      sessionSubscriptions.remove(sessionId);
+    }
+    if (workspaceId != null) {
+      releaseWorkspace(workspaceId, sessionId, subscriptionId);
+    }
+  }
+
+  /**
+   * 세션 연결 종료 (세션의 모든 구독 해제)
+   */
+  public synchronized void releaseSession(String sessionId) {
+    sessionOutbox.close(sessionId);
+    Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+    if (subscriptions == null) {
+      return;
+    }
+
+    subscriptions.forEach((subscriptionId, workspaceId) ->
+        releaseWorkspace(workspaceId, sessionId, subscriptionId));
+  }
+
+  public int getActiveRelayCount() {
+    return relays.size();
+  }
+
+  /**
+   * 워크스페이스 위치 토픽 시청자 수 (전체 노드 합계, 최대 5초 지연)
+   */
+  public int getViewerCount(String workspaceId) {
+    Integer cached = viewerCounts.getIfPresent(workspaceId);
+    if (cached != null) {
+      return cached;
+    }
+
+    int total = 0;
+    try {
+      for (Object value : redisTemplate.opsForHash().values(VIEWERS_KEY_PREFIX + workspaceId)) {
+        if (value instanceof Number number) {
+          total += number.intValue();
+        }
+      }
+    } catch (Exception e) {
+      Relay relay = relays.get(workspaceId);
+      total = relay != null ? relay.subscribers.size() : 0;
+    }
+
+    viewerCounts.put(workspaceId, total);
+    return total;
+  }
+
+  /**
+   * 노드별 시청자 수 TTL 갱신 (노드 장애 시 90초 후 자동 소멸)
+   */
+  @Scheduled(fixedRate = 30000)
+  public void refreshViewerCounts() {
+    relays.forEach((workspaceId, relay) -> publishViewerCount(workspaceId, relay.subscribers.size()));
+  }
+
+  private void releaseWorkspace(String workspaceId, String sessionId, String subscriptionId) {
+    Relay relay = relays.get(workspaceId);
+    if (relay == null) {
+      return;
+    }
+
+    relay.subscribers.remove(sessionId + ":" + subscriptionId);
+    publishViewerCount(workspaceId, relay.subscribers.size());
+    if (relay.subscribers.isEmpty()) {
+      relays.remove(workspaceId);
+      relay.subscription.dispose();
+      redisMessageBroker.unsubscribe(workspaceId);
+      log.info("Stopped location relay for workspace {}", workspaceId);
+    }
+  }
+
+  private void publishViewerCount(String workspaceId, int count) {
+    String key = VIEWERS_KEY_PREFIX + workspaceId;
+    try {
+      if (count > 0) {
+        redisTemplate.opsForHash().put(key, nodeId, count);
+        redisTemplate.expire(key, VIEWERS_TTL);
+      } else {
+        redisTemplate.opsForHash().delete(key, nodeId);
+      }
+    } catch (Exception e) {
+      log.debug("Failed to publish viewer count for workspace {}: {}", workspaceId, e.getMessage());
+    }
+  }
+
+  private Disposable startRelay(String workspaceId, Relay relay) {
+    String destination = destination(workspaceId);
+    return redisMessageBroker.subscribe(workspaceId)
+        .subscribe(
+            location -> relay.subscribers.values().forEach(subscriber -> sessionOutbox.enqueue(
+                subscriber.sessionId(), subscriber.subscriptionId(), destination, location)),
+            error -> {
+              log.error("Error in location relay for workspace {}", workspaceId, error);
+              restartRelay(workspaceId, relay);
+            },
+            () -> restartRelay(workspaceId, relay)
+        );
+  }
+
+  /**
+   * 위치 스트림이 종료됐는데 아직 구독자가 있으면 릴레이 재시작
+   */
+  private synchronized void restartRelay(String workspaceId, Relay relay) {
+    if (relays.get(workspaceId) != relay || relay.subscribers.isEmpty()) {
+      return;
+    }
+    log.warn("Location stream for workspace {} terminated, restarting relay", workspaceId);
+    relay.subscription = startRelay(workspaceId, relay);
+  }
+
+  @PreDestroy
+  public synchronized void cleanup() {
+    relays.keySet().forEach(workspaceId -> publishViewerCount(workspaceId, 0));
+    relays.values().forEach(relay -> relay.subscription.dispose());
+    relays.clear();
+    sessionSubscriptions.clear();
+  }
+
+  /**
+   * 워크스페이스 릴레이 상태
+   */
+  private static class Relay {
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private Disposable subscription;
+  }
+
+  private record Subscriber(String sessionId, String subscriptionId) {
+
+  }
+}
@@ -1,23 +1,39 @@
 package com.weave.domain.location.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.weave.domain.location.dto.LocationNearbyDto;
 import com.weave.domain.location.dto.LocationRequestDto;
 import com.weave.domain.location.dto.LocationResponseDto;
+import com.weave.domain.location.dto.LocationSamplingHintDto;
+import com.weave.domain.location.dto.LocationTrailPageDto;
 import com.weave.domain.location.entity.Location;
 import com.weave.domain.location.repository.LocationRepository;
 import com.weave.domain.user.entity.User;
 import com.weave.domain.user.repository.UserRepository;
+import com.weave.domain.workspace.entity.Workspace;
+import com.weave.domain.workspace.repository.WorkspaceRepository;
 import com.weave.global.BusinessException;
 import com.weave.global.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,13 +42,46 @@ public class LocationService {
 
   private final LocationRepository locationRepository;
   private final UserRepository userRepository;
+  private final LocationWriteBuffer locationWriteBuffer;
+  private final LocationLiveStore locationLiveStore;
+  private final LocationUpdateFilter locationUpdateFilter;
+  private final LocationTrailService locationTrailService;
+  private final LocationProximityService locationProximityService;
+  private final WorkspaceRepository workspaceRepository;
+  private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+  // 사용자 캐시 무효화 채널 (모든 노드의 캐시에서 제거)
+  private static final String USER_INVALIDATE_CHANNEL = "location:user-invalidate";
+
+  private volatile Disposable invalidateSubscription;
+
+  private final Cache<String, User> userCache = CacheBuilder.newBuilder()
+      .expireAfterWrite(1, TimeUnit.MINUTES)
+      .maximumSize(10_000)
+      .build();
+
+  @PostConstruct
+  public void subscribeUserInvalidation() {
+    invalidateSubscription = reactiveRedisTemplate
+        .listenToChannel(USER_INVALIDATE_CHANNEL)
+        .doOnNext(message -> userCache.invalidate(message.getMessage()))
+        .doOnError(error -> log.error("Error in user cache invalidation subscription", error))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void unsubscribeUserInvalidation() {
+    if (invalidateSubscription != null) {
+      invalidateSubscription.dispose();
+    }
+  }
 
   public LocationResponseDto saveLocation(String workspaceId, LocationRequestDto dto,
       String email) {
     log.debug("save location: {}", dto);
     // 사용자 검증
-    User user = userRepository.findByEmail(email)
-        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    User user = getUserByEmail(email);
 
     // 위치 upsert (사용자별 1개 문서만 유지)
     Location savedLocation = locationRepository.upsertLocation(
@@ -42,13 +91,144 @@ public class LocationService {
         dto.getLongitude()
     );
 
-    return LocationResponseDto.from(savedLocation, user.getName());
+    LocationResponseDto response = LocationResponseDto.from(savedLocation, user.getName());
+    if (Boolean.TRUE.equals(user.getLocationEnabled())) {
+      locationLiveStore.put(response);
+      locationTrailService.record(savedLocation.getWorkspaceId(), user.getId(),
+          savedLocation.getLatitude(), savedLocation.getLongitude(), savedLocation.getTimestamp());
+    }
+    return response;
+  }
+
+  /**
+   * 실시간 위치 업데이트 (STOMP)
+   * 즉시 브로드캐스트할 응답만 만들고, 저장은 버퍼에 맡겨 주기적으로 사용자별 최신 위치만 반영
+   *
+   * @return 이동 거리/시간 임계값 미만으로 걸러졌거나 위치 공유를 끈 경우 null (브로드캐스트/도착 판정 생략)
+   */
+  public LocationResponseDto updateLocation(String workspaceId, LocationRequestDto dto,
+      String email) {
+    User user = getUserByEmail(email);
+
+    if (!locationUpdateFilter.accept(workspaceId, user.getId().toString(), dto.getLatitude(),
+        dto.getLongitude())) {
+      return null;
+    }
+
+    Location location = Location.builder()
+        .workspaceId(new ObjectId(workspaceId))
+        .userId(user.getId())
+        .latitude(dto.getLatitude())
+        .longitude(dto.getLongitude())
+        .timestamp(new Date())
+        .build();
+    locationWriteBuffer.offer(location);
+
+    LocationResponseDto response = LocationResponseDto.builder()
+        .workspaceId(workspaceId)
+        .userId(user.getId().toString())
+        .userName(user.getName())
+        .latitude(location.getLatitude())
+        .longitude(location.getLongitude())
+        .timestamp(location.getTimestamp())
+        .build();
+    if (!Boolean.TRUE.equals(user.getLocationEnabled())) {
+      return null;
+    }
+    locationLiveStore.put(response);
+    locationTrailService.record(location.getWorkspaceId(), user.getId(),
+        location.getLatitude(), location.getLongitude(), location.getTimestamp());
+    return response;
+  }
+
+  /**
+   * 사용자 이동 경로 조회 (from ~ to, epoch ms, 페이지 단위)
+   * 요청자와 대상 모두 워크스페이스 멤버여야 하고, 위치 공유를 끈 사용자의 경로는 반환하지 않음
+   */
+  public LocationTrailPageDto getTrail(String workspaceId, String email, String userId,
+      long from, long to, Integer limit) {
+    User requester = getUserByEmail(email);
+    ObjectId targetId = new ObjectId(userId);
+    Workspace workspace = workspaceRepository.findById(new ObjectId(workspaceId))
+        .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+    if (workspace.getUsers() == null || !workspace.getUsers().contains(requester.getId())
+        || !workspace.getUsers().contains(targetId)) {
+      throw new BusinessException(ErrorCode.WORKSPACE_ACCESS_DENIED);
+    }
+
+    User target = userRepository.findById(targetId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    if (!Boolean.TRUE.equals(target.getLocationEnabled())) {
+      return LocationTrailPageDto.builder().points(Collections.emptyList()).build();
+    }
+    return locationTrailService.getTrail(workspaceId, userId, from, to, limit);
+  }
+
+  /**
+   * 반경 내 워크스페이스 멤버 조회 (가까운 순, 워크스페이스 멤버만 조회 가능)
+   * 기준 좌표를 생략하면 내 최신 위치 기준
+   */
+  public List<LocationNearbyDto> getNearbyMembers(String workspaceId, String email,
+      Double latitude, Double longitude, Double radiusMeters, Integer limit) {
+    User user = getUserByEmail(email);
+    Workspace workspace = workspaceRepository.findById(new ObjectId(workspaceId))
+        .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+    if (workspace.getUsers() == null || !workspace.getUsers().contains(user.getId())) {
+      throw new BusinessException(ErrorCode.WORKSPACE_ACCESS_DENIED);
+    }
+
+    return locationProximityService.findNearby(workspaceId, user.getId().toString(), latitude,
+        longitude, radiusMeters, limit, () -> getLocations(workspaceId));
   }
 
+  /**
+   * 권장 위치 전송 주기 힌트 (변경된 경우에만 반환)
+   */
+  public LocationSamplingHintDto getSamplingHint(String workspaceId, String email) {
+    User user = getUserByEmail(email);
+    return locationUpdateFilter.hintIfChanged(workspaceId, user.getId().toString());
+  }
+
+  /**
+   * 워크스페이스 참여자 최신 위치 조회
+   * Redis 실시간 저장소를 우선 사용하고, 비어 있으면 Mongo에서 조회 후 저장소를 채움
+   */
   public List<LocationResponseDto> getLocations(String workspaceId) {
+    List<LocationResponseDto> live = locationLiveStore.snapshot(workspaceId);
+    if (live != null) {
+      return live;
+    }
+
+    List<LocationResponseDto> locations = loadLocations(workspaceId);
+    locationLiveStore.putAll(workspaceId, locations);
+    return locations;
+  }
+
+  private List<LocationResponseDto> loadLocations(String workspaceId) {
+    ObjectId wsId = new ObjectId(workspaceId);
+
     // 최적화: Aggregation으로 사용자별 최신 위치만 조회 (DB 레벨에서 처리)
-    List<Location> latestLocations = locationRepository.findLatestLocationsByWorkspaceId(
-        new ObjectId(workspaceId));
+    List<Location> latestLocations = new ArrayList<>(
+        locationRepository.findLatestLocationsByWorkspaceId(wsId));
+
+    // 아직 저장되지 않은 버퍼의 최신 위치 반영 (첫 위치는 다음 반영 주기 이후 조회됨)
+    Map<ObjectId, Location> pending = locationWriteBuffer.getPending(wsId);
+    if (!pending.isEmpty()) {
+      latestLocations.replaceAll(location -> {
+        Location buffered = pending.get(location.getUserId());
+        if (buffered == null) {
+          return location;
+        }
+        return Location.builder()
+            .id(location.getId())
+            .workspaceId(location.getWorkspaceId())
+            .userId(location.getUserId())
+            .latitude(buffered.getLatitude())
+            .longitude(buffered.getLongitude())
+            .timestamp(buffered.getTimestamp())
+            .build();
+      });
+    }
 
     if (latestLocations.isEmpty()) {
       return Collections.emptyList();
@@ -78,4 +258,34 @@ public class LocationService {
         .filter(dto -> dto != null)
         .collect(Collectors.toList());
   }
+
+  /**
+   * 사용자 캐시 무효화 (위치 공유 여부/이름 변경 시)
+   * 다른 노드의 캐시도 Redis pub/sub으로 무효화하고, 발행이 실패해도 캐시 만료(1분) 후 반영
+   */
+  public void invalidateUser(String email) {
+    userCache.invalidate(email);
+    reactiveRedisTemplate
+        .convertAndSend(USER_INVALIDATE_CHANNEL, email)
+        .timeout(Duration.ofSeconds(5))
+        .subscribe(
+            count -> log.debug("Published user cache invalidation to {} subscribers", count),
+            error -> log.error("Failed to publish user cache invalidation", error)
+        );
+  }
+
+  /**
+   * 이메일로 사용자 조회 (짧은 캐시로 GPS 수신마다 반복되는 조회 방지)
+   */
+  private User getUserByEmail(String email) {
+    User cached = userCache.getIfPresent(email);
+    if (cached != null) {
+      return cached;
+    }
+
+    User user = userRepository.findByEmail(email)
+        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    userCache.put(email, user);
+    return user;
+  }
 }
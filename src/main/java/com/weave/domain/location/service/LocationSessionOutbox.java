@@ -0,0 +1,155 @@
+package com.weave.domain.location.service;
+
+import com.weave.domain.location.dto.LocationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 세션별 위치 전송 큐
+ * 세션마다 전송 중 프레임 수를 제한하고, 대기 중인 위치는 (워크스페이스, 사용자)별 최신 값으로 덮어씀
+ * 느린 클라이언트는 밀린 이력 대신 멤버별 최신 위치만 받고, 다른 세션의 전송에는 영향을 주지 않음
+ */
+@Slf4j
+@Service
+public class LocationSessionOutbox {
+
+  private final MessageChannel clientOutboundChannel;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final int maxInFlight;
+
+  private final Map<String, Outbox> outboxes = new ConcurrentHashMap<>();
+  private final Counter conflatedCounter;
+  private final Counter sentCounter;
+  private final DistributionSummary queueDepth;
+
+  public LocationSessionOutbox(
+      @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+      SimpMessagingTemplate messagingTemplate,
+      LocationOutboundInterceptor outboundInterceptor,
+      MeterRegistry meterRegistry,
+      @Value("${location.delivery.max-in-flight:4}") int maxInFlight) {
+    this.clientOutboundChannel = clientOutboundChannel;
+    this.messagingTemplate = messagingTemplate;
+    this.maxInFlight = maxInFlight;
+    this.conflatedCounter = meterRegistry.counter("location.delivery.conflated");
+    this.sentCounter = meterRegistry.counter("location.delivery.sent");
+    this.queueDepth = DistributionSummary.builder("location.delivery.queue.depth")
+        .description("Pending location frames per session at enqueue time")
+        .register(meterRegistry);
+    Gauge.builder("location.delivery.sessions", outboxes, Map::size).register(meterRegistry);
+    outboundInterceptor.setDeliveredListener(this::onDelivered);
+  }
+
+  /**
+   * 세션 구독으로 위치 전송 (대기 중인 같은 사용자 위치는 최신 값으로 교체)
+   */
+  public void enqueue(String sessionId, String subscriptionId, String destination,
+      LocationResponseDto location) {
+    Outbox outbox = outboxes.computeIfAbsent(sessionId, Outbox::new);
+
+    synchronized (outbox) {
+      String key = subscriptionId + ":" + location.getUserId();
+      if (outbox.pending.put(key, new Frame(subscriptionId, destination, location)) != null) {
+        outbox.conflated++;
+        conflatedCounter.increment();
+      }
+      queueDepth.record(outbox.pending.size());
+      drain(outbox);
+    }
+  }
+
+  /**
+   * 세션 종료 시 큐 정리
+   */
+  public void close(String sessionId) {
+    outboxes.remove(sessionId);
+  }
+
+  /**
+   * 세션별 큐 상태 조회 (모니터링용)
+   */
+  public Map<String, Object> getStatus() {
+    Map<String, Object> status = new ConcurrentHashMap<>();
+    outboxes.forEach((sessionId, outbox) -> {
+      synchronized (outbox) {
+        status.put(sessionId, Map.of(
+            "pending", outbox.pending.size(),
+            "inFlight", outbox.inFlight,
+            "conflated", outbox.conflated));
+      }
+    });
+    return status;
+  }
+
+  private void onDelivered(String sessionId) {
+    Outbox outbox = outboxes.get(sessionId);
+    if (outbox == null) {
+      return;
+    }
+
+    synchronized (outbox) {
+      outbox.inFlight = Math.max(0, outbox.inFlight - 1);
+      drain(outbox);
+    }
+  }
+
+  private void drain(Outbox outbox) {
+    while (outbox.inFlight < maxInFlight && !outbox.pending.isEmpty()) {
+      String key = outbox.pending.keySet().iterator().next();
+      Frame frame = outbox.pending.remove(key);
+      outbox.inFlight++;
+
+      try {
+        clientOutboundChannel.send(toMessage(outbox.sessionId, frame));
+        sentCounter.increment();
+      } catch (Exception e) {
+        outbox.inFlight--;
+        log.warn("Failed to deliver location to session {}: {}", outbox.sessionId, e.getMessage());
+      }
+    }
+  }
+
+  private Message<?> toMessage(String sessionId, Frame frame) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId(frame.subscriptionId);
+    accessor.setDestination(frame.destination);
+    accessor.setHeader(LocationOutboundInterceptor.LOCATION_FRAME_HEADER, true);
+    accessor.setLeaveMutable(true);
+    return messagingTemplate.getMessageConverter()
+        .toMessage(frame.location, accessor.getMessageHeaders());
+  }
+
+  /**
+   * 세션 전송 큐
+   */
+  private static class Outbox {
+
+    private final String sessionId;
+    private final LinkedHashMap<String, Frame> pending = new LinkedHashMap<>();
+    private int inFlight;
+    private long conflated;
+
+    private Outbox(String sessionId) {
+      this.sessionId = sessionId;
+    }
+  }
+
+  private record Frame(String subscriptionId, String destination, LocationResponseDto location) {
+
+  }
+}
@@ -0,0 +1,121 @@
+package com.weave.domain.location.service;
+
+import com.weave.domain.location.dto.LocationTrailPointDto;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 이동 경로 청크 인코딩
+ * 각 점은 (이전 점 대비 시간 차 ms, 위도 차, 경도 차)를 zigzag varint로 기록 (위경도는 1e7 배율 정수)
+ * 첫 점의 기준값은 (청크 시작 시각, 0, 0) 이며, 수 초 간격 도보/차량 이동 기준 점당 약 6바이트
+ */
+public final class LocationTrailCodec {
+
+  private static final double COORDINATE_SCALE = 1e7;
+
+  private LocationTrailCodec() {
+  }
+
+  /**
+   * 청크 인코더 (점 추가 순서는 시간 오름차순)
+   */
+  public static class Encoder {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    private long lastTime;
+    private long lastLat;
+    private long lastLon;
+    private int count;
+
+    public Encoder(long startTime) {
+      this.lastTime = startTime;
+    }
+
+    public void append(long timestamp, double latitude, double longitude) {
+      long lat = Math.round(latitude * COORDINATE_SCALE);
+      long lon = Math.round(longitude * COORDINATE_SCALE);
+
+      writeVarLong(out, zigzag(Math.max(0, timestamp - lastTime)));
+      writeVarLong(out, zigzag(lat - lastLat));
+      writeVarLong(out, zigzag(lon - lastLon));
+
+      lastTime = Math.max(lastTime, timestamp);
+      lastLat = lat;
+      lastLon = lon;
+      count++;
+    }
+
+    public byte[] toByteArray() {
+      return out.toByteArray();
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public long getLastTime() {
+      return lastTime;
+    }
+  }
+
+  /**
+   * 청크 디코딩 (from ~ to 범위의 점만 반환)
+   */
+  public static List<LocationTrailPointDto> decode(long startTime, byte[] data, long from, long to) {
+    List<LocationTrailPointDto> points = new ArrayList<>();
+    int[] position = {0};
+    long time = startTime;
+    long lat = 0;
+    long lon = 0;
+
+    while (position[0] < data.length) {
+      time += unzigzag(readVarLong(data, position));
+      lat += unzigzag(readVarLong(data, position));
+      lon += unzigzag(readVarLong(data, position));
+
+      if (time > to) {
+        break;
+      }
+      if (time >= from) {
+        points.add(LocationTrailPointDto.builder()
+            .latitude(lat / COORDINATE_SCALE)
+            .longitude(lon / COORDINATE_SCALE)
+            .timestamp(new Date(time))
+            .build());
+      }
+    }
+
+    return points;
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarLong(byte[] data, int[] position) {
+    long result = 0;
+    int shift = 0;
+    while (true) {
+      byte b = data[position[0]++];
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+      shift += 7;
+    }
+  }
+}
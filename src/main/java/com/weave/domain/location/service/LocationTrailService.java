@@ -0,0 +1,254 @@
+package com.weave.domain.location.service;
+
+import com.weave.domain.location.dto.LocationTrailPageDto;
+import com.weave.domain.location.dto.LocationTrailPointDto;
+import com.weave.domain.location.entity.LocationTrailChunk;
+import com.weave.domain.location.repository.LocationTrailRepository;
+import com.weave.global.BusinessException;
+import com.weave.global.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 위치 이동 경로 기록 (선택 기능, location.trail.enabled)
+ * 사용자별 열린 청크에 위치를 인코딩해 두고 주기적으로 청크 단위로 저장
+ * 청크는 최대 점 수 또는 시간 범위를 넘으면 닫히며, 보관 기간이 지나면 TTL 인덱스로 삭제
+ * 저장에 실패한 청크는 다음 주기에 다시 저장
+ */
+@Slf4j
+@Service
+public class LocationTrailService {
+
+  private final LocationTrailRepository locationTrailRepository;
+  private final boolean enabled;
+  private final long retentionMs;
+  private final int chunkMaxPoints;
+  private final long chunkMaxSpanMs;
+  private final int pageMaxPoints;
+
+  // (workspace, user)별 열린 청크
+  private final Map<String, OpenChunk> openChunks = new ConcurrentHashMap<>();
+  // 롤오버로 닫혔지만 아직 저장되지 않은 청크
+  private final List<OpenChunk> closedChunks = new ArrayList<>();
+
+  public LocationTrailService(
+      LocationTrailRepository locationTrailRepository,
+      @Value("${location.trail.enabled:false}") boolean enabled,
+      @Value("${location.trail.retention-days:7}") long retentionDays,
+      @Value("${location.trail.chunk-max-points:720}") int chunkMaxPoints,
+      @Value("${location.trail.chunk-max-span-ms:3600000}") long chunkMaxSpanMs,
+      @Value("${location.trail.page-max-points:5000}") int pageMaxPoints) {
+    this.locationTrailRepository = locationTrailRepository;
+    this.enabled = enabled;
+    this.retentionMs = TimeUnit.DAYS.toMillis(retentionDays);
+    this.chunkMaxPoints = chunkMaxPoints;
+    this.chunkMaxSpanMs = chunkMaxSpanMs;
+    this.pageMaxPoints = pageMaxPoints;
+  }
+
+  /**
+   * 위치 기록 (열린 청크에 추가)
+   */
+  public void record(ObjectId workspaceId, ObjectId userId, double latitude, double longitude,
+      Date timestamp) {
+    if (!enabled) {
+      return;
+    }
+
+    long time = timestamp.getTime();
+    // 같은 키의 롤오버/추가는 compute 안에서 직렬화
+    openChunks.compute(workspaceId + ":" + userId, (key, current) -> {
+      OpenChunk chunk = current;
+      if (chunk == null || chunk.closed) {
+        chunk = new OpenChunk(workspaceId, userId, time);
+      }
+
+      synchronized (chunk) {
+        if (chunk.encoder.getCount() >= chunkMaxPoints || time - chunk.startTime >= chunkMaxSpanMs) {
+          chunk.closed = true;
+          retire(chunk);
+          chunk = new OpenChunk(workspaceId, userId, time);
+        }
+      }
+
+      synchronized (chunk) {
+        chunk.encoder.append(time, latitude, longitude);
+        chunk.dirty = true;
+      }
+      return chunk;
+    });
+  }
+
+  /**
+   * 이동 경로 조회 (구간과 겹치는 청크를 순서대로 디코딩, 페이지 크기만큼만 읽고 중단)
+   * 조회 구간은 보관 기간 이내여야 하며, 남은 점이 있으면 nextFrom으로 이어서 조회
+   * 아직 저장되지 않은 최근 점은 다음 저장 주기 이후 조회됨
+   */
+  public LocationTrailPageDto getTrail(String workspaceId, String userId, long from, long to,
+      Integer limit) {
+    if (to < from) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST);
+    }
+    if (to - from > retentionMs) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST,
+          "조회 구간은 보관 기간(" + TimeUnit.MILLISECONDS.toDays(retentionMs) + "일)을 넘을 수 없습니다.");
+    }
+    int pageSize = limit != null && limit > 0 ? Math.min(limit, pageMaxPoints) : pageMaxPoints;
+
+    List<LocationTrailPointDto> points;
+    try (Stream<LocationTrailChunk> chunks = locationTrailRepository
+        .findByWorkspaceIdAndUserIdAndStartTimeLessThanEqualAndEndTimeGreaterThanEqualOrderByStartTimeAsc(
+            new ObjectId(workspaceId), new ObjectId(userId), new Date(to), new Date(from))) {
+      // 다음 페이지 여부 확인용으로 1개 더 읽음
+      points = chunks
+          .flatMap(chunk -> LocationTrailCodec
+              .decode(chunk.getStartTime().getTime(), chunk.getData(), from, to).stream())
+          .limit(pageSize + 1L)
+          .collect(Collectors.toList());
+    }
+
+    Long nextFrom = null;
+    if (points.size() > pageSize) {
+      nextFrom = points.remove(pageSize).getTimestamp().getTime();
+    }
+    return LocationTrailPageDto.builder()
+        .points(points)
+        .nextFrom(nextFrom)
+        .build();
+  }
+
+  /**
+   * 변경된 청크 저장 및 닫힌 청크 정리
+   */
+  @Scheduled(fixedDelayString = "${location.trail.flush-interval-ms:60000}")
+  public void flush() {
+    if (!enabled) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    List<OpenChunk> flushed = new ArrayList<>();
+    List<LocationTrailChunk> dirty = new ArrayList<>();
+    List<Map.Entry<String, OpenChunk>> closed = new ArrayList<>();
+    for (Map.Entry<String, OpenChunk> entry : openChunks.entrySet()) {
+      OpenChunk chunk = entry.getValue();
+      synchronized (chunk) {
+        if (chunk.dirty) {
+          flushed.add(chunk);
+          dirty.add(toEntity(chunk));
+          chunk.dirty = false;
+        }
+        // 오래 갱신이 없는 청크는 닫고 메모리에서 제거
+        if (!chunk.closed && now - chunk.encoder.getLastTime() >= chunkMaxSpanMs) {
+          chunk.closed = true;
+        }
+        if (chunk.closed) {
+          closed.add(Map.entry(entry.getKey(), chunk));
+        }
+      }
+    }
+    // record()는 맵 잠금 안에서 청크 잠금을 잡으므로, 맵 제거는 청크 잠금 밖에서 수행
+    closed.forEach(entry -> openChunks.remove(entry.getKey(), entry.getValue()));
+
+    for (OpenChunk chunk : drainClosed()) {
+      synchronized (chunk) {
+        if (chunk.dirty) {
+          flushed.add(chunk);
+          dirty.add(toEntity(chunk));
+          chunk.dirty = false;
+        }
+      }
+    }
+    if (dirty.isEmpty()) {
+      return;
+    }
+
+    try {
+      locationTrailRepository.saveAll(dirty);
+      log.debug("Flushed {} location trail chunks", dirty.size());
+    } catch (Exception e) {
+      log.error("Failed to flush {} location trail chunks, will retry", dirty.size(), e);
+      // 실패 시 다시 저장 대상으로 표시 (닫힌 청크는 맵에서 빠졌으므로 닫힌 목록에 다시 보관)
+      for (OpenChunk chunk : flushed) {
+        boolean closedChunk;
+        synchronized (chunk) {
+          chunk.dirty = true;
+          closedChunk = chunk.closed;
+        }
+        if (closedChunk) {
+          retire(chunk);
+        }
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+
+  private void retire(OpenChunk chunk) {
+    if (!chunk.dirty) {
+      return;
+    }
+    synchronized (closedChunks) {
+      closedChunks.add(chunk);
+    }
+  }
+
+  // record()는 청크 잠금 안에서 목록 잠금을 잡으므로, 목록만 꺼내고 청크는 목록 잠금 밖에서 처리
+  private List<OpenChunk> drainClosed() {
+    synchronized (closedChunks) {
+      List<OpenChunk> result = new ArrayList<>(closedChunks);
+      closedChunks.clear();
+      return result;
+    }
+  }
+
+  private LocationTrailChunk toEntity(OpenChunk chunk) {
+    long endTime = chunk.encoder.getLastTime();
+    return LocationTrailChunk.builder()
+        .id(chunk.id)
+        .workspaceId(chunk.workspaceId)
+        .userId(chunk.userId)
+        .startTime(new Date(chunk.startTime))
+        .endTime(new Date(endTime))
+        .pointCount(chunk.encoder.getCount())
+        .data(chunk.encoder.toByteArray())
+        .expireAt(new Date(endTime + retentionMs))
+        .build();
+  }
+
+  /**
+   * 메모리에 열려 있는 청크
+   */
+  private static class OpenChunk {
+
+    private final ObjectId id = new ObjectId();
+    private final ObjectId workspaceId;
+    private final ObjectId userId;
+    private final long startTime;
+    private final LocationTrailCodec.Encoder encoder;
+    private boolean dirty;
+    private boolean closed;
+
+    private OpenChunk(ObjectId workspaceId, ObjectId userId, long startTime) {
+      this.workspaceId = workspaceId;
+      this.userId = userId;
+      this.startTime = startTime;
+      this.encoder = new LocationTrailCodec.Encoder(startTime);
+    }
+  }
+}
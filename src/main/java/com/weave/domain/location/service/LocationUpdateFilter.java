@@ -0,0 +1,130 @@
+package com.weave.domain.location.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.weave.domain.location.dto.LocationSamplingHintDto;
+import com.weave.global.util.GeoUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치 업데이트 필터
+ * - 이동 거리/시간 임계값 미만의 업데이트는 버림 (정지 상태는 heartbeat 주기로만 전달)
+ * - 워크스페이스 시청자 수에 따라 클라이언트에 권장 전송 주기 힌트 제공
+ */
+@Component
+public class LocationUpdateFilter {
+
+  private final LocationRelayManager relayManager;
+  private final Counter acceptedCounter;
+  private final Counter droppedCounter;
+
+  private final double minDistanceMeters;
+  private final long minIntervalMs;
+  private final long heartbeatIntervalMs;
+  private final long activeIntervalMs;
+  private final long idleIntervalMs;
+
+  // (workspace, user)별 마지막 전달 위치
+  private final Cache<String, LastFix> lastFixes = CacheBuilder.newBuilder()
+      .expireAfterAccess(30, TimeUnit.MINUTES)
+      .maximumSize(100_000)
+      .build();
+
+  public LocationUpdateFilter(
+      LocationRelayManager relayManager,
+      MeterRegistry meterRegistry,
+      @Value("${location.filter.min-distance-meters:10}") double minDistanceMeters,
+      @Value("${location.filter.min-interval-ms:1000}") long minIntervalMs,
+      @Value("${location.filter.heartbeat-interval-ms:60000}") long heartbeatIntervalMs,
+      @Value("${location.filter.hint.active-interval-ms:5000}") long activeIntervalMs,
+      @Value("${location.filter.hint.idle-interval-ms:60000}") long idleIntervalMs) {
+    this.relayManager = relayManager;
+    this.acceptedCounter = meterRegistry.counter("location.filter.updates", "result", "accepted");
+    this.droppedCounter = meterRegistry.counter("location.filter.updates", "result", "dropped");
+    this.minDistanceMeters = minDistanceMeters;
+    this.minIntervalMs = minIntervalMs;
+    this.heartbeatIntervalMs = heartbeatIntervalMs;
+    this.activeIntervalMs = activeIntervalMs;
+    this.idleIntervalMs = idleIntervalMs;
+  }
+
+  /**
+   * 위치 업데이트 전달 여부 판단
+   *
+   * @return 임계값을 넘어 저장/브로드캐스트해야 하면 true
+   */
+  public boolean accept(String workspaceId, String userId, double latitude, double longitude) {
+    LastFix lastFix = getLastFix(workspaceId, userId);
+    long now = System.currentTimeMillis();
+
+    synchronized (lastFix) {
+      if (lastFix.timestamp > 0) {
+        long elapsed = now - lastFix.timestamp;
+        double distance = GeoUtils.distanceMeters(lastFix.latitude, lastFix.longitude, latitude,
+            longitude);
+
+        boolean moved = distance >= minDistanceMeters && elapsed >= minIntervalMs;
+        boolean heartbeat = elapsed >= heartbeatIntervalMs;
+        if (!moved && !heartbeat) {
+          droppedCounter.increment();
+          return false;
+        }
+      }
+
+      lastFix.latitude = latitude;
+      lastFix.longitude = longitude;
+      lastFix.timestamp = now;
+    }
+
+    acceptedCounter.increment();
+    return true;
+  }
+
+  /**
+   * 권장 전송 주기 힌트 (이전에 보낸 힌트와 달라진 경우에만 반환)
+   * 본인 외 시청자가 없으면 유휴 주기, 있으면 활성 주기 권장
+   */
+  public LocationSamplingHintDto hintIfChanged(String workspaceId, String userId) {
+    int viewers = relayManager.getViewerCount(workspaceId);
+    long suggestedIntervalMs = viewers > 1 ? activeIntervalMs : idleIntervalMs;
+
+    LastFix lastFix = getLastFix(workspaceId, userId);
+    synchronized (lastFix) {
+      if (lastFix.hintIntervalMs == suggestedIntervalMs) {
+        return null;
+      }
+      lastFix.hintIntervalMs = suggestedIntervalMs;
+    }
+
+    return LocationSamplingHintDto.builder()
+        .workspaceId(workspaceId)
+        .viewers(viewers)
+        .suggestedIntervalMs(suggestedIntervalMs)
+        .minDistanceMeters(minDistanceMeters)
+        .build();
+  }
+
+  private LastFix getLastFix(String workspaceId, String userId) {
+    try {
+      return lastFixes.get(workspaceId + ":" + userId, LastFix::new);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 마지막 전달 위치 및 힌트 상태
+   */
+  private static class LastFix {
+
+    private double latitude;
+    private double longitude;
+    private long timestamp;
+    private long hintIntervalMs;
+  }
+}
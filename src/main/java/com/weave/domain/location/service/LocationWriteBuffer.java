@@ -0,0 +1,104 @@
+package com.weave.domain.location.service;
+
+import com.weave.domain.location.entity.Location;
+import com.weave.domain.location.repository.LocationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 위치 저장 버퍼 (최신 값 우선 병합)
+ * (workspace, user)별 최신 위치만 보관하고 주기적으로 한 번의 bulk upsert로 반영
+ * GPS 수신 건마다 쓰던 Mongo 쓰기를 주기당 사용자별 1건으로 줄임
+ */
+@Slf4j
+@Service
+public class LocationWriteBuffer {
+
+  private final LocationRepository locationRepository;
+  private final Map<String, Location> pending = new ConcurrentHashMap<>();
+  private final Counter conflatedCounter;
+  private final Counter flushedCounter;
+
+  public LocationWriteBuffer(LocationRepository locationRepository, MeterRegistry meterRegistry) {
+    this.locationRepository = locationRepository;
+    this.conflatedCounter = meterRegistry.counter("location.write.conflated");
+    this.flushedCounter = meterRegistry.counter("location.write.flushed");
+    Gauge.builder("location.write.pending", pending, Map::size).register(meterRegistry);
+  }
+
+  /**
+   * 위치 저장 요청 (같은 사용자의 이전 미반영 위치는 덮어씀)
+   */
+  public void offer(Location location) {
+    pending.merge(key(location.getWorkspaceId(), location.getUserId()), location,
+        (previous, latest) -> {
+          conflatedCounter.increment();
+          return latest.getTimestamp().before(previous.getTimestamp()) ? previous : latest;
+        });
+  }
+
+  /**
+   * 워크스페이스의 미반영 위치 조회 (userId -> Location)
+   */
+  public Map<ObjectId, Location> getPending(ObjectId workspaceId) {
+    Map<ObjectId, Location> result = new HashMap<>();
+    pending.values().stream()
+        .filter(location -> workspaceId.equals(location.getWorkspaceId()))
+        .forEach(location -> result.put(location.getUserId(), location));
+    return result;
+  }
+
+  /**
+   * 미반영 위치 일괄 저장
+   */
+  @Scheduled(fixedDelayString = "${location.write.flush-interval-ms:5000}")
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    List<Location> batch = new ArrayList<>();
+    for (Map.Entry<String, Location> entry : pending.entrySet()) {
+      // 스냅샷 이후 들어온 더 최신 위치는 다음 주기로 남김
+      if (pending.remove(entry.getKey(), entry.getValue())) {
+        batch.add(entry.getValue());
+      }
+    }
+
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      locationRepository.bulkUpsertLocations(batch);
+      flushedCounter.increment(batch.size());
+      log.debug("Flushed {} buffered locations", batch.size());
+    } catch (Exception e) {
+      log.error("Failed to flush {} buffered locations, will retry", batch.size(), e);
+      // 실패 시 더 최신 위치가 없는 경우에만 다시 보관
+      batch.forEach(location -> pending.merge(
+          key(location.getWorkspaceId(), location.getUserId()), location,
+          (current, failed) -> current));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+
+  private String key(ObjectId workspaceId, ObjectId userId) {
+    return workspaceId + ":" + userId;
+  }
+}
@@ -3,6 +3,8 @@ package com.weave.domain.location.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.weave.domain.location.dto.LocationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import java.util.Map;
@@ -10,34 +12,48 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.ReactiveSubscription;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
 
 @Slf4j
 @Service
 public class RedisMessageBroker {
 
   private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+  private final ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate;
   private final ObjectMapper objectMapper;
+  private final LocationFrameCodec frameCodec;
+  private final boolean compactWireFormat;
+  private final Counter wireBytesCounter;
 
   public RedisMessageBroker(
       ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
-      @Qualifier("redisObjectMapper") ObjectMapper objectMapper) {
+      ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate,
+      @Qualifier("redisObjectMapper") ObjectMapper objectMapper,
+      LocationFrameCodec frameCodec,
+      MeterRegistry meterRegistry,
+      @Value("${location.wire.format:json}") String wireFormat) {
     this.reactiveRedisTemplate = reactiveRedisTemplate;
+    this.reactiveBinaryRedisTemplate = reactiveBinaryRedisTemplate;
     this.objectMapper = objectMapper;
+    this.frameCodec = frameCodec;
+    this.compactWireFormat = "compact".equalsIgnoreCase(wireFormat);
+    this.wireBytesCounter = meterRegistry.counter("location.wire.bytes",
+        "format", compactWireFormat ? "compact" : "json");
   }
 
   // 워크스페이스별 로컬 Sink (현재 서버에 연결된 클라이언트들에게 브로드캐스트)
   private final Map<String, Sinks.Many<LocationResponseDto>> localSinks = new ConcurrentHashMap<>();
 
-  // Redis 구독 관리
-  private final Map<String, Disposable> subscriptions = new ConcurrentHashMap<>();
+  // 노드당 단일 Redis 패턴 구독 (workspace:location:*)
+  private volatile Disposable patternSubscription;
 
   // 구독자 수 추적 (메모리 누수 방지)
   private final Map<String, AtomicInteger> subscriberCounts = new ConcurrentHashMap<>();
@@ -46,6 +62,9 @@ public class RedisMessageBroker {
   private final Map<String, Long> lastActivityTime = new ConcurrentHashMap<>();
 
   private static final String CHANNEL_PREFIX = "workspace:location:";
+  private static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+  private static final String BINARY_CHANNEL_PREFIX = "workspace:location-bin:";
+  private static final String BINARY_CHANNEL_PATTERN = BINARY_CHANNEL_PREFIX + "*";
   private static final long IDLE_TIMEOUT_MS = 5 * 60 * 1000; // 5분 유휴 시간 후 정리
 
   /**
@@ -62,9 +81,10 @@ public class RedisMessageBroker {
     Sinks.Many<LocationResponseDto> sink = localSinks.computeIfAbsent(
         workspaceId,
         k -> {
-          // Redis 채널 구독 시작
-          subscribeToRedis(workspaceId);
-          return Sinks.many().multicast().onBackpressureBuffer(256);
+          // Redis 패턴 구독 보장
+          ensurePatternSubscription();
+          // 마지막 구독자가 떠나도 Sink를 종료하지 않음 (재구독 시 재사용, 정리는 unsubscribe)
+          return Sinks.many().multicast().onBackpressureBuffer(256, false);
         }
     );
 
@@ -93,53 +113,93 @@ public class RedisMessageBroker {
   }
 
   /**
-   * Redis 채널을 구독하여 다른 서버의 메시지를 받음
+   * Redis 패턴 구독 시작 (노드당 1개)
+   * 워크스페이스 수와 관계없이 구독 1개만 유지하고, 채널명으로 로컬 Sink에 분배
+   * location.wire.format=compact 인 경우 바이너리 채널(workspace:location-bin:*)을 구독
    */
-  private void subscribeToRedis(String workspaceId) {
-    String channel = CHANNEL_PREFIX + workspaceId;
-
-    if (subscriptions.containsKey(workspaceId)) {
-      log.debug("Already subscribed to Redis channel: {}", channel);
+  private synchronized void ensurePatternSubscription() {
+    if (patternSubscription != null && !patternSubscription.isDisposed()) {
       return;
     }
 
-    Disposable subscription = reactiveRedisTemplate
-        .listenTo(ChannelTopic.of(channel))
-        .map(ReactiveSubscription.Message::getMessage)
-        .doOnNext(message -> {
-          try {
-            LocationResponseDto location = objectMapper.readValue(message, LocationResponseDto.class);
-            Sinks.Many<LocationResponseDto> sink = localSinks.get(workspaceId);
-            if (sink != null) {
-              Sinks.EmitResult result = sink.tryEmitNext(location);
-              if (result.isFailure()) {
-                log.warn("Failed to emit location to sink: {}", result);
-              }
-            }
-          } catch (JsonProcessingException e) {
-            log.error("Failed to deserialize location message from Redis: {}", message, e);
-          }
-        })
-        .doOnError(error -> log.error("Error in Redis subscription for workspace {}", workspaceId, error))
-        .doOnComplete(() -> {
-          log.info("Redis subscription completed for workspace {}", workspaceId);
-          subscriptions.remove(workspaceId);
-        })
+    String pattern = compactWireFormat ? BINARY_CHANNEL_PATTERN : CHANNEL_PATTERN;
+    Flux<?> messages = compactWireFormat
+        ? reactiveBinaryRedisTemplate.listenToPattern(pattern).doOnNext(this::routeBinaryMessage)
+        : reactiveRedisTemplate.listenToPattern(pattern).doOnNext(this::routeMessage);
+
+    patternSubscription = messages
+        .doOnError(error -> log.error("Error in Redis pattern subscription: {}", pattern, error))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+        .doOnComplete(() -> log.info("Redis pattern subscription completed: {}", pattern))
         .subscribe();
 
-    subscriptions.put(workspaceId, subscription);
-    log.info("Started Redis subscription for channel: {}", channel);
+    log.info("Started Redis pattern subscription: {}", pattern);
+  }
+
+  /**
+   * 채널명에서 워크스페이스 ID를 추출하여 로컬 Sink로 전달
+   * 이 노드에 구독자가 없는 워크스페이스 메시지는 역직렬화 없이 버림
+   */
+  private void routeMessage(ReactiveSubscription.Message<String, String> message) {
+    String workspaceId = workspaceIdOf(message.getChannel(), CHANNEL_PREFIX);
+    Sinks.Many<LocationResponseDto> sink = workspaceId != null ? localSinks.get(workspaceId) : null;
+    if (sink == null) {
+      return;
+    }
+
+    try {
+      emit(sink, objectMapper.readValue(message.getMessage(), LocationResponseDto.class));
+    } catch (JsonProcessingException e) {
+      log.error("Failed to deserialize location message from Redis: {}", message.getMessage(), e);
+    }
+  }
+
+  /**
+   * 압축 바이너리 프레임 라우팅
+   */
+  private void routeBinaryMessage(ReactiveSubscription.Message<String, byte[]> message) {
+    String workspaceId = workspaceIdOf(message.getChannel(), BINARY_CHANNEL_PREFIX);
+    Sinks.Many<LocationResponseDto> sink = workspaceId != null ? localSinks.get(workspaceId) : null;
+    if (sink == null) {
+      return;
+    }
+
+    try {
+      emit(sink, frameCodec.decode(workspaceId, message.getMessage()));
+    } catch (RuntimeException e) {
+      log.error("Failed to decode location frame from Redis for workspace {}", workspaceId, e);
+    }
+  }
+
+  private String workspaceIdOf(String channel, String prefix) {
+    if (channel == null || !channel.startsWith(prefix)) {
+      return null;
+    }
+    return channel.substring(prefix.length());
+  }
+
+  private void emit(Sinks.Many<LocationResponseDto> sink, LocationResponseDto location) {
+    Sinks.EmitResult result = sink.tryEmitNext(location);
+    if (result.isFailure()) {
+      log.warn("Failed to emit location to sink: {}", result);
+    }
   }
 
   /**
    * 위치 업데이트를 Redis로 publish (모든 서버에 브로드캐스트)
    */
   public void publish(String workspaceId, LocationResponseDto location) {
-    String channel = CHANNEL_PREFIX + workspaceId;
     lastActivityTime.put(workspaceId, System.currentTimeMillis());
 
+    if (compactWireFormat) {
+      publishCompact(workspaceId, location);
+      return;
+    }
+
+    String channel = CHANNEL_PREFIX + workspaceId;
     try {
       String message = objectMapper.writeValueAsString(location);
+      wireBytesCounter.increment(message.length());
       reactiveRedisTemplate
           .convertAndSend(channel, message)
           .timeout(Duration.ofSeconds(5))
@@ -152,19 +212,35 @@ public class RedisMessageBroker {
     }
   }
 
+  /**
+   * 압축 바이너리 프레임으로 publish
+   */
+  private void publishCompact(String workspaceId, LocationResponseDto location) {
+    String channel = BINARY_CHANNEL_PREFIX + workspaceId;
+    byte[] frame = frameCodec.encode(location);
+    wireBytesCounter.increment(frame.length);
+
+    reactiveBinaryRedisTemplate
+        .convertAndSend(channel, frame)
+        .timeout(Duration.ofSeconds(5))
+        .subscribe(
+            count -> log.debug("Published location frame to {} subscribers on channel: {}", count, channel),
+            error -> log.error("Failed to publish location frame to Redis channel: {}", channel, error)
+        );
+  }
+
   /**
    * 워크스페이스 구독 해제 (강제)
    */
   public void unsubscribe(String workspaceId) {
     log.info("Force unsubscribing from workspace: {}", workspaceId);
 
-    localSinks.remove(workspaceId);
+    Sinks.Many<LocationResponseDto> sink = localSinks.remove(workspaceId);
     subscriberCounts.remove(workspaceId);
     lastActivityTime.remove(workspaceId);
 
-    Disposable subscription = subscriptions.remove(workspaceId);
-    if (subscription != null && !subscription.isDisposed()) {
-      subscription.dispose();
+    if (sink != null) {
+      sink.tryEmitComplete();
       log.info("Unsubscribed from workspace: {}", workspaceId);
     }
   }
@@ -177,8 +253,9 @@ public class RedisMessageBroker {
     return localSinks.computeIfAbsent(
         workspaceId,
         k -> {
-          subscribeToRedis(workspaceId);
-          return Sinks.many().multicast().onBackpressureBuffer(256);
+          ensurePatternSubscription();
+          // 마지막 구독자가 떠나도 Sink를 종료하지 않음 (재구독 시 재사용, 정리는 unsubscribe)
+          return Sinks.many().multicast().onBackpressureBuffer(256, false);
         }
     );
   }
@@ -205,7 +282,7 @@ public class RedisMessageBroker {
     }
 
     if (cleaned > 0) {
-      log.info("Cleaned up {} idle subscriptions. Active subscriptions: {}", cleaned, subscriptions.size());
+      log.info("Cleaned up {} idle subscriptions. Active sinks: {}", cleaned, localSinks.size());
     }
   }
 
@@ -214,7 +291,8 @@ public class RedisMessageBroker {
    */
   public Map<String, Object> getSubscriptionStatus() {
     Map<String, Object> status = new ConcurrentHashMap<>();
-    status.put("activeSubscriptions", subscriptions.size());
+    status.put("activeSubscriptions",
+        patternSubscription != null && !patternSubscription.isDisposed() ? 1 : 0);
     status.put("activeSinks", localSinks.size());
 
     Map<String, Integer> subscriberStatus = new ConcurrentHashMap<>();
@@ -227,8 +305,9 @@ public class RedisMessageBroker {
   @PreDestroy
   public void cleanup() {
     log.info("Cleaning up Redis subscriptions");
-    subscriptions.values().forEach(Disposable::dispose);
-    subscriptions.clear();
+    if (patternSubscription != null) {
+      patternSubscription.dispose();
+    }
     localSinks.clear();
     subscriberCounts.clear();
     lastActivityTime.clear();
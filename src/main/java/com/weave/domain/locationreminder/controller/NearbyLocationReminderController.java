@@ -0,0 +1,37 @@
+package com.weave.domain.locationreminder.controller;
+
+import com.weave.domain.locationreminder.dto.NearbyLocationReminderDto;
+import com.weave.domain.locationreminder.service.LocationReminderService;
+import com.weave.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/location-reminder")
+@RequiredArgsConstructor
+@Tag(name = "Location Reminder", description = "위치 기반 알림 API")
+public class NearbyLocationReminderController {
+
+  private final LocationReminderService locationReminderService;
+
+  @SecurityRequirement(name = "JWT")
+  @Operation(summary = "내 주변 위치 알림 조회", description = "참여 중인 곧 시작하거나 진행 중인 일정의 위치 알림을 가까운 순으로 조회합니다.")
+  @GetMapping("/nearby")
+  public ApiResponse<List<NearbyLocationReminderDto>> findNearby(
+      @RequestParam("latitude") double latitude,
+      @RequestParam("longitude") double longitude,
+      @AuthenticationPrincipal UserDetails userDetails
+  ) {
+    return ApiResponse.ok(
+        locationReminderService.findNearby(latitude, longitude, userDetails.getUsername()));
+  }
+}
@@ -0,0 +1,38 @@
+package com.weave.domain.locationreminder.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyLocationReminderDto {
+
+  @JsonProperty("scheduleId")
+  private String scheduleId;
+
+  @JsonProperty("scheduleTitle")
+  private String scheduleTitle;
+
+  @JsonProperty("scheduleStartDate")
+  private String scheduleStartDate;
+
+  private Double latitude;
+  private Double longitude;
+  private Integer radius;
+  private String address;
+
+  @JsonProperty("placeName")
+  private String placeName;
+
+  // 기준 지점과 지오펜스 중심 사이 거리 (미터)
+  private Double distance;
+
+  // 기준 지점이 지오펜스 반경 안에 있는지 여부
+  @JsonProperty("isInside")
+  private Boolean isInside;
+}
@@ -1,6 +1,8 @@
 package com.weave.domain.locationreminder.entity;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,11 +11,15 @@ import org.bson.types.ObjectId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 @Document(collection = "location_reminders")
+@CompoundIndex(name = "location_enabled_start_idx",
+    def = "{'location': '2dsphere', 'is_enabled': 1, 'schedule_start_date': 1}")
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,6 +39,12 @@ public class LocationReminder {
   @Field("longitude")
   private Double longitude;
 
+  /**
+   * 지오펜스 중심 (GeoJSON Point, 2dsphere 인덱스), latitude/longitude와 같은 값
+   */
+  @Field("location")
+  private GeoJsonPoint location;
+
   @Field("radius")
   @Builder.Default
   private Integer radius = 300; // 미터 단위
@@ -50,6 +62,25 @@ public class LocationReminder {
   @Field("triggered_at")
   private Date triggeredAt;
 
+  @Field("arrived_user_ids")
+  @Builder.Default
+  private List<ObjectId> arrivedUserIds = new ArrayList<>(); // 도착 알림이 발송된 사용자 (사용자당 1회)
+
+  /**
+   * 일정 정보 비정규화 (근접/기간 조회용, 일정 수정 시 함께 갱신)
+   */
+  @Field("workspace_id")
+  private ObjectId workspaceId;
+
+  @Field("schedule_start_date")
+  private Date scheduleStartDate;
+
+  @Field("schedule_end_date")
+  private Date scheduleEndDate;
+
+  @Field("schedule_recurring")
+  private Boolean scheduleRecurring; // 반복 일정이면 기간은 현재(또는 다음) 회차
+
   @Field("created_by")
   private ObjectId createdBy;
 
@@ -0,0 +1,47 @@
+package com.weave.domain.locationreminder.repository;
+
+import com.weave.domain.locationreminder.entity.LocationReminder;
+import java.util.Date;
+import java.util.List;
+import org.bson.types.ObjectId;
+
+public interface LocationReminderRepositoryCustom {
+
+  /**
+   * 사용자 도착 알림 선점 (사용자당 1회, 원자적 $addToSet)
+   *
+   * @return 이번 호출로 처음 기록된 경우 true
+   */
+  boolean claimArrival(ObjectId reminderId, ObjectId userId);
+
+  /**
+   * 지점 주변의 활성 위치 알림 조회 (2dsphere $nearSphere, 가까운 순)
+   * 일정 시작이 startBefore 이전이고 종료가 endAfter 이후인 알림만 반환
+   */
+  List<LocationReminder> findEnabledNear(double latitude, double longitude,
+      double maxDistanceMeters, Date startBefore, Date endAfter, int limit);
+
+  /**
+   * 기간 내 활성 위치 알림 조회
+   * 일정 시작이 (startAfter, startBefore] 이고 종료가 endAfter 이후인 알림 (null인 조건은 제외)
+   */
+  List<LocationReminder> findEnabledInWindow(Date startAfter, Date startBefore, Date endAfter);
+
+  /**
+   * 일정 수정 시 비정규화된 일정 정보 갱신
+   */
+  void updateScheduleFields(ObjectId scheduleId, ObjectId workspaceId, Date startDate,
+      Date endDate, boolean recurring);
+
+  /**
+   * 회차 기간이 endBefore 이전에 끝난 반복 일정의 활성 알림 조회
+   */
+  List<LocationReminder> findEnabledRecurringEndedBefore(Date endBefore);
+
+  /**
+   * 반복 일정 알림의 비정규화된 기간을 다음 회차로 전진하고 도착 기록 초기화
+   * 다음 회차가 없으면(startDate null) 반복 표시만 해제, 다른 노드가 먼저 전진했으면 false
+   */
+  boolean advanceOccurrence(ObjectId reminderId, Date previousEndDate, Date startDate,
+      Date endDate);
+}
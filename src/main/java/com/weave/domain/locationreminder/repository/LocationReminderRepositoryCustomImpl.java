@@ -0,0 +1,109 @@
+package com.weave.domain.locationreminder.repository;
+
+import com.weave.domain.locationreminder.entity.LocationReminder;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LocationReminderRepositoryCustomImpl implements LocationReminderRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public boolean claimArrival(ObjectId reminderId, ObjectId userId) {
+    Query query = new Query(Criteria.where("_id").is(reminderId)
+        .and("is_enabled").is(true)
+        .and("arrived_user_ids").ne(userId));
+
+    Update update = new Update()
+        .addToSet("arrived_user_ids", userId)
+        .set("triggered_at", new Date());
+
+    return mongoTemplate.updateFirst(query, update, LocationReminder.class).getModifiedCount() > 0;
+  }
+
+  @Override
+  public List<LocationReminder> findEnabledNear(double latitude, double longitude,
+      double maxDistanceMeters, Date startBefore, Date endAfter, int limit) {
+    // GeoJSON 기준이므로 maxDistance는 미터 단위
+    Query query = new Query(Criteria.where("location")
+        .nearSphere(new GeoJsonPoint(longitude, latitude))
+        .maxDistance(maxDistanceMeters)
+        .and("is_enabled").is(true)
+        .and("schedule_start_date").lte(startBefore)
+        .and("schedule_end_date").gte(endAfter))
+        .limit(limit);
+
+    return mongoTemplate.find(query, LocationReminder.class);
+  }
+
+  @Override
+  public List<LocationReminder> findEnabledInWindow(Date startAfter, Date startBefore,
+      Date endAfter) {
+    Criteria criteria = Criteria.where("is_enabled").is(true)
+        .and("schedule_end_date").gte(endAfter);
+    if (startAfter != null || startBefore != null) {
+      Criteria start = criteria.and("schedule_start_date");
+      if (startAfter != null) {
+        start.gt(startAfter);
+      }
+      if (startBefore != null) {
+        start.lte(startBefore);
+      }
+    }
+
+    return mongoTemplate.find(new Query(criteria), LocationReminder.class);
+  }
+
+  @Override
+  public void updateScheduleFields(ObjectId scheduleId, ObjectId workspaceId, Date startDate,
+      Date endDate, boolean recurring) {
+    Query query = new Query(Criteria.where("schedule_id").is(scheduleId));
+
+    Update update = new Update()
+        .set("workspace_id", workspaceId)
+        .set("schedule_start_date", startDate)
+        .set("schedule_end_date", endDate)
+        .set("schedule_recurring", recurring);
+
+    mongoTemplate.updateFirst(query, update, LocationReminder.class);
+  }
+
+  @Override
+  public List<LocationReminder> findEnabledRecurringEndedBefore(Date endBefore) {
+    Query query = new Query(Criteria.where("is_enabled").is(true)
+        .and("schedule_recurring").is(true)
+        .and("schedule_end_date").lt(endBefore));
+
+    return mongoTemplate.find(query, LocationReminder.class);
+  }
+
+  @Override
+  public boolean advanceOccurrence(ObjectId reminderId, Date previousEndDate, Date startDate,
+      Date endDate) {
+    Query query = new Query(Criteria.where("_id").is(reminderId)
+        .and("schedule_end_date").is(previousEndDate));
+
+    Update update = new Update();
+    if (startDate == null) {
+      update.set("schedule_recurring", false);
+    } else {
+      update.set("schedule_start_date", startDate)
+          .set("schedule_end_date", endDate)
+          .set("arrived_user_ids", new ArrayList<>())
+          .unset("triggered_at");
+    }
+
+    return mongoTemplate.updateFirst(query, update, LocationReminder.class).getModifiedCount() > 0;
+  }
+}
@@ -0,0 +1,397 @@
+package com.weave.domain.locationreminder.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.weave.domain.locationreminder.entity.LocationReminder;
+import com.weave.domain.locationreminder.repository.LocationReminderRepository;
+import com.weave.domain.schedule.entity.Schedule;
+import com.weave.domain.schedule.repository.ScheduleRepository;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService.Occurrence;
+import com.weave.global.util.GeoUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 서버 지오펜스 엔진
+ * 활성 위치 알림을 워크스페이스별 격자 인덱스로 메모리에 보관하고, 수신한 위치마다 주변 격자만 검사
+ * 위치 알림은 일정 시작 activation-lead-hours 전부터 일정 종료까지만 활성화되어 메모리에 올라가고, 종료 후 제거
+ * 반복 일정은 회차 단위로 활성화하며, 회차가 끝나면 알림의 비정규화 기간을 다음 회차로 전진하고 도착 기록 초기화
+ * 반경 안으로 들어오면 도착으로 판정하고 반경 * exit-factor 밖으로 나가야 이탈로 보는 히스테리시스 적용
+ * 위치 수신 경로에서는 Mongo를 조회하지 않으며, 도착 알림 발송은 LocationArrivalNotifier에서 비동기 처리
+ */
+@Slf4j
+@Service
+public class GeofenceEngine {
+
+  private static final double METERS_PER_DEGREE = 111_320d;
+
+  private final LocationReminderRepository locationReminderRepository;
+  private final ScheduleRepository scheduleRepository;
+  private final ScheduleRecurrenceService scheduleRecurrenceService;
+  private final LocationArrivalNotifier arrivalNotifier;
+  private final double cellDegrees;
+  private final double exitFactor;
+  private final long activationLeadMs;
+  private final Counter arrivalCounter;
+
+  // 이 시각 이전에 시작하는 일정까지 활성화 완료 (0이면 아직 초기 적재 전)
+  private volatile long activationHorizon;
+
+  // 일정별 지오펜스 (인덱스 원본)
+  private final Map<ObjectId, Geofence> geofences = new ConcurrentHashMap<>();
+
+  // 워크스페이스별 격자 인덱스 (변경 시 워크스페이스 단위로 교체)
+  private final Map<String, Grid> grids = new ConcurrentHashMap<>();
+
+  // (일정, 사용자)별 반경 내 여부
+  private final Cache<String, Boolean> insideStates = CacheBuilder.newBuilder()
+      .expireAfterAccess(1, TimeUnit.DAYS)
+      .maximumSize(100_000)
+      .build();
+
+  // 이 노드에서 도착 처리를 요청한 (일정, 사용자)
+  private final Cache<String, Boolean> arrivals = CacheBuilder.newBuilder()
+      .expireAfterWrite(1, TimeUnit.DAYS)
+      .maximumSize(100_000)
+      .build();
+
+  public GeofenceEngine(
+      LocationReminderRepository locationReminderRepository,
+      ScheduleRepository scheduleRepository,
+      ScheduleRecurrenceService scheduleRecurrenceService,
+      LocationArrivalNotifier arrivalNotifier,
+      MeterRegistry meterRegistry,
+      @Value("${location-reminder.geofence.cell-degrees:0.01}") double cellDegrees,
+      @Value("${location-reminder.geofence.exit-factor:1.2}") double exitFactor,
+      @Value("${location-reminder.geofence.activation-lead-hours:2}") long activationLeadHours) {
+    this.locationReminderRepository = locationReminderRepository;
+    this.scheduleRepository = scheduleRepository;
+    this.scheduleRecurrenceService = scheduleRecurrenceService;
+    this.arrivalNotifier = arrivalNotifier;
+    this.cellDegrees = cellDegrees;
+    this.exitFactor = exitFactor;
+    this.activationLeadMs = TimeUnit.HOURS.toMillis(activationLeadHours);
+    this.arrivalCounter = meterRegistry.counter("geofence.arrivals");
+    Gauge.builder("geofence.active", geofences, Map::size)
+        .description("Location reminder geofences held in memory")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 위치 수신 시 지오펜스 판정 (메모리 인덱스만 사용)
+   */
+  public void evaluate(String workspaceId, String userId, double latitude, double longitude) {
+    Grid grid = grids.get(workspaceId);
+    if (grid == null) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    for (Geofence geofence : grid.candidates(cellKey(latitude, longitude))) {
+      // 다음 활성화 주기 전에 종료된 일정은 건너뜀
+      if (geofence.activeUntil() < now || !geofence.participantIds().contains(userId)) {
+        continue;
+      }
+
+      double distance = GeoUtils.distanceMeters(latitude, longitude, geofence.latitude(),
+          geofence.longitude());
+      String key = geofence.scheduleId().toHexString() + ":" + userId;
+      boolean inside = Boolean.TRUE.equals(insideStates.getIfPresent(key));
+
+      if (!inside && distance <= geofence.radius()) {
+        insideStates.put(key, true);
+        if (arrivals.asMap().putIfAbsent(key, true) == null) {
+          arrivalCounter.increment();
+          arrivalNotifier.notifyServerArrival(geofence.scheduleId(), new ObjectId(userId));
+        }
+      } else if (inside && distance > geofence.radius() * exitFactor) {
+        insideStates.put(key, false);
+      }
+    }
+  }
+
+  /**
+   * 주기적으로 전체 재적재 (일정 참여자/기간 변경 반영)
+   * 시작 시에는 위치 알림 GeoJSON 보정 후 LocationReminderService에서 호출
+   */
+  @Scheduled(fixedDelayString = "${location-reminder.geofence.reload-interval-ms:300000}",
+      initialDelayString = "${location-reminder.geofence.reload-interval-ms:300000}")
+  public synchronized void reload() {
+    try {
+      Date now = new Date();
+      long horizon = now.getTime() + activationLeadMs;
+      advanceOccurrences(now);
+
+      // 곧 시작하거나 진행 중인 일정의 활성 알림만 조회 (비정규화된 일정 기간 사용)
+      Map<ObjectId, Geofence> loaded = load(
+          locationReminderRepository.findEnabledInWindow(null, new Date(horizon), now), now);
+
+      geofences.keySet().retainAll(loaded.keySet());
+      geofences.putAll(loaded);
+      rebuildGrids();
+      activationHorizon = horizon;
+      log.info("Loaded {} location reminder geofences", geofences.size());
+    } catch (Exception e) {
+      log.error("Failed to reload location reminder geofences", e);
+    }
+  }
+
+  /**
+   * 활성 구간 전진
+   * 종료된 일정의 지오펜스를 제거하고, 새로 활성 구간에 들어온 일정만 추가 조회
+   */
+  @Scheduled(fixedDelayString = "${location-reminder.geofence.activation-interval-ms:60000}")
+  public synchronized void advance() {
+    if (activationHorizon == 0) {
+      return;
+    }
+
+    try {
+      Date now = new Date();
+      long horizon = now.getTime() + activationLeadMs;
+      Set<String> changed = new HashSet<>();
+
+      // 종료된 일정 제거
+      geofences.values().removeIf(geofence -> {
+        if (geofence.activeUntil() >= now.getTime()) {
+          return false;
+        }
+        changed.add(geofence.workspaceId());
+        evictStates(geofence.scheduleId());
+        return true;
+      });
+
+      // 끝난 반복 일정 회차를 다음 회차로 전진 (이미 활성 구간에 들어온 회차는 바로 활성화)
+      Map<ObjectId, Geofence> activated = load(advanceOccurrences(now), now);
+
+      // (이전 구간 끝, 새 구간 끝]에 시작하는 일정 활성화
+      activated.putAll(load(locationReminderRepository.findEnabledInWindow(
+          new Date(activationHorizon), new Date(horizon), now), now));
+      activated.values().forEach(geofence -> changed.add(geofence.workspaceId()));
+      geofences.putAll(activated);
+      activationHorizon = horizon;
+
+      changed.forEach(this::rebuildGrid);
+      if (!changed.isEmpty()) {
+        log.debug("Advanced geofence window: {} active, {} activated", geofences.size(),
+            activated.size());
+      }
+    } catch (Exception e) {
+      log.error("Failed to advance location reminder geofence window", e);
+    }
+  }
+
+  /**
+   * 일정의 위치 알림 변경 반영 (설정/토글/삭제, 일정 수정 후 호출)
+   */
+  public synchronized void refresh(ObjectId scheduleId) {
+    Geofence previous = geofences.remove(scheduleId);
+    if (previous != null) {
+      evictStates(scheduleId);
+    }
+
+    LocationReminder reminder = locationReminderRepository.findByScheduleId(scheduleId).orElse(null);
+    Geofence geofence = null;
+    if (reminder != null && Boolean.TRUE.equals(reminder.getIsEnabled())) {
+      geofence = toGeofence(reminder, scheduleRepository.findById(scheduleId).orElse(null),
+          new Date());
+    }
+    if (geofence != null) {
+      geofences.put(scheduleId, geofence);
+    }
+
+    if (previous != null) {
+      rebuildGrid(previous.workspaceId());
+    }
+    if (geofence != null && (previous == null || !previous.workspaceId()
+        .equals(geofence.workspaceId()))) {
+      rebuildGrid(geofence.workspaceId());
+    }
+  }
+
+  private Map<ObjectId, Geofence> load(List<LocationReminder> reminders, Date now) {
+    Map<ObjectId, Schedule> schedules = loadSchedules(reminders.stream()
+        .map(LocationReminder::getScheduleId)
+        .collect(Collectors.toSet()));
+
+    Map<ObjectId, Geofence> loaded = new HashMap<>();
+    for (LocationReminder reminder : reminders) {
+      Geofence geofence = toGeofence(reminder, schedules.get(reminder.getScheduleId()), now);
+      if (geofence != null) {
+        loaded.put(geofence.scheduleId(), geofence);
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * 회차가 끝난 반복 일정 알림의 비정규화 기간을 다음 회차로 전진
+   * 다음 회차가 남은 알림 반환
+   */
+  private List<LocationReminder> advanceOccurrences(Date now) {
+    List<LocationReminder> reminders =
+        locationReminderRepository.findEnabledRecurringEndedBefore(now);
+    if (reminders.isEmpty()) {
+      return List.of();
+    }
+
+    Map<ObjectId, Schedule> schedules = loadSchedules(reminders.stream()
+        .map(LocationReminder::getScheduleId)
+        .collect(Collectors.toSet()));
+
+    List<LocationReminder> advanced = new ArrayList<>();
+    for (LocationReminder reminder : reminders) {
+      Schedule schedule = schedules.get(reminder.getScheduleId());
+      Occurrence occurrence = schedule != null
+          ? scheduleRecurrenceService.currentOccurrence(schedule, now) : null;
+      Date startDate = occurrence != null ? occurrence.startDate() : null;
+      Date endDate = occurrence != null ? endDateOf(occurrence) : null;
+
+      // 다른 노드가 먼저 전진했어도 이 노드의 활성화 대상에는 포함
+      locationReminderRepository.advanceOccurrence(reminder.getId(),
+          reminder.getScheduleEndDate(), startDate, endDate);
+      if (occurrence != null) {
+        advanced.add(reminder);
+      }
+    }
+    return advanced;
+  }
+
+  private void evictStates(ObjectId scheduleId) {
+    String prefix = scheduleId.toHexString() + ":";
+    insideStates.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    arrivals.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  private Map<ObjectId, Schedule> loadSchedules(Set<ObjectId> scheduleIds) {
+    if (scheduleIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return scheduleRepository.findAllById(scheduleIds).stream()
+        .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+  }
+
+  private Geofence toGeofence(LocationReminder reminder, Schedule schedule, Date now) {
+    if (schedule == null || schedule.getWorkspace() == null || reminder.getLatitude() == null
+        || reminder.getLongitude() == null) {
+      return null;
+    }
+    // 진행 중이거나 다음 회차의 활성 구간(시작 - lead ~ 종료) 밖이면 제외
+    Occurrence occurrence = scheduleRecurrenceService.currentOccurrence(schedule, now);
+    if (occurrence == null
+        || occurrence.startDate().getTime() - activationLeadMs > now.getTime()) {
+      return null;
+    }
+    Date endDate = endDateOf(occurrence);
+
+    Set<String> participantIds = schedule.getParticipants() == null ? Set.of()
+        : schedule.getParticipants().stream().map(ObjectId::toHexString).collect(Collectors.toSet());
+
+    return new Geofence(
+        schedule.getId(),
+        schedule.getWorkspace().toHexString(),
+        reminder.getLatitude(),
+        reminder.getLongitude(),
+        reminder.getRadius() != null ? reminder.getRadius() : 300,
+        endDate.getTime(),
+        participantIds);
+  }
+
+  // 종료일이 없으면 시작일을 종료로 간주
+  private Date endDateOf(Occurrence occurrence) {
+    return occurrence.endDate() != null ? occurrence.endDate() : occurrence.startDate();
+  }
+
+  private void rebuildGrids() {
+    Map<String, List<Geofence>> byWorkspace = geofences.values().stream()
+        .collect(Collectors.groupingBy(Geofence::workspaceId));
+
+    grids.keySet().retainAll(byWorkspace.keySet());
+    byWorkspace.forEach((workspaceId, list) -> grids.put(workspaceId, buildGrid(list)));
+  }
+
+  private void rebuildGrid(String workspaceId) {
+    List<Geofence> list = geofences.values().stream()
+        .filter(geofence -> geofence.workspaceId().equals(workspaceId))
+        .collect(Collectors.toList());
+
+    if (list.isEmpty()) {
+      grids.remove(workspaceId);
+    } else {
+      grids.put(workspaceId, buildGrid(list));
+    }
+  }
+
+  /**
+   * 이탈 판정 반경까지 덮는 격자 칸마다 지오펜스 등록
+   */
+  private Grid buildGrid(Collection<Geofence> list) {
+    Map<Long, List<Geofence>> cells = new HashMap<>();
+    for (Geofence geofence : list) {
+      double reach = geofence.radius() * exitFactor;
+      double latSpan = reach / METERS_PER_DEGREE;
+      double lonSpan = reach / (METERS_PER_DEGREE
+          * Math.max(0.01, Math.cos(Math.toRadians(geofence.latitude()))));
+
+      long minLat = (long) Math.floor((geofence.latitude() - latSpan) / cellDegrees);
+      long maxLat = (long) Math.floor((geofence.latitude() + latSpan) / cellDegrees);
+      long minLon = (long) Math.floor((geofence.longitude() - lonSpan) / cellDegrees);
+      long maxLon = (long) Math.floor((geofence.longitude() + lonSpan) / cellDegrees);
+
+      for (long lat = minLat; lat <= maxLat; lat++) {
+        for (long lon = minLon; lon <= maxLon; lon++) {
+          cells.computeIfAbsent(cellKey(lat, lon), k -> new ArrayList<>()).add(geofence);
+        }
+      }
+    }
+    return new Grid(cells);
+  }
+
+  private long cellKey(double latitude, double longitude) {
+    return cellKey((long) Math.floor(latitude / cellDegrees),
+        (long) Math.floor(longitude / cellDegrees));
+  }
+
+  private static long cellKey(long latIndex, long lonIndex) {
+    return (latIndex << 32) ^ (lonIndex & 0xFFFFFFFFL);
+  }
+
+  /**
+   * 메모리 지오펜스
+   */
+  private record Geofence(ObjectId scheduleId, String workspaceId, double latitude,
+                          double longitude, int radius, long activeUntil,
+                          Set<String> participantIds) {
+
+  }
+
+  /**
+   * 워크스페이스 격자 인덱스 (불변)
+   */
+  private record Grid(Map<Long, List<Geofence>> cells) {
+
+    List<Geofence> candidates(long cellKey) {
+      return cells.getOrDefault(cellKey, List.of());
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.weave.domain.locationreminder.service;
+
+import com.weave.domain.locationreminder.entity.LocationReminder;
+import com.weave.domain.locationreminder.repository.LocationReminderRepository;
+import com.weave.domain.schedule.entity.Schedule;
+import com.weave.domain.schedule.repository.ScheduleRepository;
+import com.weave.domain.schedule.service.NotificationService;
+import com.weave.domain.user.entity.User;
+import com.weave.domain.user.repository.UserRepository;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 위치 도착 알림 발송
+ * 클라이언트 도착 보고와 서버 지오펜스 판정 모두 사용자당 1회만 발송 (arrived_user_ids 선점)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationArrivalNotifier {
+
+  private final LocationReminderRepository locationReminderRepository;
+  private final ScheduleRepository scheduleRepository;
+  private final UserRepository userRepository;
+  private final NotificationService notificationService;
+
+  /**
+   * 서버 지오펜스 도착 처리 (위치 수신 경로와 분리해 비동기로 조회/발송)
+   */
+  @Async("notificationExecutor")
+  public void notifyServerArrival(ObjectId scheduleId, ObjectId userId) {
+    LocationReminder reminder = locationReminderRepository.findByScheduleId(scheduleId).orElse(null);
+    if (reminder == null || !Boolean.TRUE.equals(reminder.getIsEnabled())) {
+      return;
+    }
+
+    if (!locationReminderRepository.claimArrival(reminder.getId(), userId)) {
+      log.debug("Arrival already notified for schedule {} user {}", scheduleId, userId);
+      return;
+    }
+
+    Schedule schedule = scheduleRepository.findById(scheduleId).orElse(null);
+    User arrivingUser = userRepository.findById(userId).orElse(null);
+    if (schedule == null || arrivingUser == null) {
+      return;
+    }
+
+    sendArrival(reminder, schedule, arrivingUser);
+  }
+
+  /**
+   * 참여자들에게 도착 알림 전송 (도착한 사용자 제외)
+   */
+  public void sendArrival(LocationReminder reminder, Schedule schedule, User arrivingUser) {
+    List<ObjectId> participantIds = schedule.getParticipants();
+    if (participantIds == null || participantIds.isEmpty()) {
+      log.info("No participants in schedule to notify");
+      return;
+    }
+
+    List<User> participants = userRepository.findAllById(participantIds);
+
+    String scheduleId = schedule.getId().toHexString();
+    String placeName = reminder.getPlaceName() != null ? reminder.getPlaceName() : reminder.getAddress();
+    String title = "위치 도착 알림";
+    String body = String.format("%s님이 %s에 도착했습니다.", arrivingUser.getName(), placeName);
+
+    int notifiedCount = 0;
+    for (User participant : participants) {
+      // 도착한 사용자 본인에게는 알림 전송 안함
+      if (participant.getId().equals(arrivingUser.getId())) {
+        continue;
+      }
+
+      notificationService.sendPushNotificationWithData(
+          participant,
+          title,
+          body,
+          Map.of(
+              "type", "location_arrival",
+              "scheduleId", scheduleId,
+              "scheduleTitle", schedule.getTitle(),
+              "arrivedUserId", arrivingUser.getId().toHexString(),
+              "arrivedUserName", arrivingUser.getName(),
+              "placeName", placeName != null ? placeName : ""
+          )
+      );
+      notifiedCount++;
+    }
+
+    log.info("Sent arrival notification to {} participants for schedule {}", notifiedCount, scheduleId);
+  }
+}
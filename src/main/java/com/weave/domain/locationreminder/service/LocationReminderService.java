@@ -2,26 +2,37 @@ package com.weave.domain.locationreminder.service;
 
 import com.weave.domain.locationreminder.dto.ArrivalNotificationDto;
 import com.weave.domain.locationreminder.dto.LocationReminderDto;
+import com.weave.domain.locationreminder.dto.NearbyLocationReminderDto;
 import com.weave.domain.locationreminder.dto.SetLocationReminderDto;
 import com.weave.domain.locationreminder.dto.ToggleLocationReminderDto;
 import com.weave.domain.locationreminder.entity.LocationReminder;
 import com.weave.domain.locationreminder.repository.LocationReminderRepository;
 import com.weave.domain.schedule.entity.Schedule;
 import com.weave.domain.schedule.repository.ScheduleRepository;
-import com.weave.domain.schedule.service.NotificationService;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService.Occurrence;
 import com.weave.domain.user.entity.User;
 import com.weave.domain.user.repository.UserRepository;
 import com.weave.global.exception.BusinessException;
 import com.weave.global.exception.ErrorCode;
+import com.weave.global.util.GeoUtils;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +44,18 @@ public class LocationReminderService {
   private final LocationReminderRepository locationReminderRepository;
   private final UserRepository userRepository;
   private final ScheduleRepository scheduleRepository;
-  private final NotificationService notificationService;
+  private final LocationArrivalNotifier arrivalNotifier;
+  private final GeofenceEngine geofenceEngine;
+  private final ScheduleRecurrenceService scheduleRecurrenceService;
+
+  @Value("${location-reminder.nearby.max-distance-meters:2000}")
+  private double nearbyMaxDistanceMeters;
+
+  @Value("${location-reminder.nearby.lead-hours:3}")
+  private long nearbyLeadHours;
+
+  @Value("${location-reminder.nearby.max-results:50}")
+  private int nearbyMaxResults;
 
   private static final SimpleDateFormat dateFormat;
 
@@ -53,6 +75,8 @@ public class LocationReminderService {
     ObjectId scheduleOid = new ObjectId(scheduleId);
     User user = userRepository.findByEmail(email)
         .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    Schedule schedule = scheduleRepository.findById(scheduleOid)
+        .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
 
     Optional<LocationReminder> existingOpt = locationReminderRepository.findByScheduleId(scheduleOid);
 
@@ -78,8 +102,11 @@ public class LocationReminderService {
           .createdAt(new Date())
           .build();
     }
+    reminder.setLocation(new GeoJsonPoint(dto.getLongitude(), dto.getLatitude()));
+    applySchedule(reminder, schedule);
 
     LocationReminder saved = locationReminderRepository.save(reminder);
+    geofenceEngine.refresh(scheduleOid);
     return toDto(saved);
   }
 
@@ -94,6 +121,7 @@ public class LocationReminderService {
     reminder.setUpdatedAt(new Date());
 
     LocationReminder saved = locationReminderRepository.save(reminder);
+    geofenceEngine.refresh(scheduleOid);
     return toDto(saved);
   }
 
@@ -101,6 +129,128 @@ public class LocationReminderService {
   public void deleteReminder(String scheduleId) {
     ObjectId scheduleOid = new ObjectId(scheduleId);
     locationReminderRepository.deleteByScheduleId(scheduleOid);
+    geofenceEngine.refresh(scheduleOid);
+  }
+
+  /**
+   * 일정 수정 시 위치 알림의 일정 정보(워크스페이스, 기간) 동기화
+   * 반복 일정은 현재(또는 다음) 회차 기간으로 저장
+   */
+  public void syncSchedule(Schedule schedule) {
+    Occurrence occurrence = occurrenceOf(schedule);
+    locationReminderRepository.updateScheduleFields(schedule.getId(), schedule.getWorkspace(),
+        occurrence.startDate(), endDateOf(occurrence),
+        ScheduleRecurrenceService.isRecurring(schedule));
+    geofenceEngine.refresh(schedule.getId());
+  }
+
+  /**
+   * 내 주변 위치 알림 조회
+   * 참여 중인 일정 중 곧 시작(lead-hours 이내)하거나 진행 중인 일정의 알림을 가까운 순으로 반환
+   */
+  public List<NearbyLocationReminderDto> findNearby(double latitude, double longitude,
+      String email) {
+    User user = userRepository.findByEmail(email)
+        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+    Date now = new Date();
+    Date startBefore = new Date(now.getTime() + TimeUnit.HOURS.toMillis(nearbyLeadHours));
+    List<LocationReminder> reminders = locationReminderRepository.findEnabledNear(latitude,
+        longitude, nearbyMaxDistanceMeters, startBefore, now, nearbyMaxResults);
+    if (reminders.isEmpty()) {
+      return List.of();
+    }
+
+    Map<ObjectId, Schedule> schedules = scheduleRepository.findAllById(reminders.stream()
+            .map(LocationReminder::getScheduleId)
+            .collect(Collectors.toSet())).stream()
+        .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+
+    List<NearbyLocationReminderDto> result = new ArrayList<>();
+    for (LocationReminder reminder : reminders) {
+      Schedule schedule = schedules.get(reminder.getScheduleId());
+      // 참여 중인 일정만 반환
+      if (schedule == null || schedule.getParticipants() == null
+          || !schedule.getParticipants().contains(user.getId())) {
+        continue;
+      }
+
+      double distance = GeoUtils.distanceMeters(latitude, longitude, reminder.getLatitude(),
+          reminder.getLongitude());
+      result.add(NearbyLocationReminderDto.builder()
+          .scheduleId(schedule.getId().toHexString())
+          .scheduleTitle(schedule.getTitle())
+          .scheduleStartDate(schedule.getStartDate() != null
+              ? dateFormat.format(schedule.getStartDate()) : null)
+          .latitude(reminder.getLatitude())
+          .longitude(reminder.getLongitude())
+          .radius(reminder.getRadius())
+          .address(reminder.getAddress())
+          .placeName(reminder.getPlaceName())
+          .distance(distance)
+          .isInside(distance <= reminder.getRadius())
+          .build());
+    }
+    return result;
+  }
+
+  /**
+   * 기존 위치 알림에 GeoJSON 위치와 일정 정보(반복 여부 포함) 채우기 (한 번만 필요, 재실행해도 무방)
+   * 보정 후 지오펜스 엔진 초기 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillGeoFields() {
+    try {
+      List<LocationReminder> reminders =
+          locationReminderRepository.findByLocationIsNullOrScheduleRecurringIsNull();
+      if (reminders.isEmpty()) {
+        geofenceEngine.reload();
+        return;
+      }
+
+      Map<ObjectId, Schedule> schedules = scheduleRepository.findAllById(reminders.stream()
+              .map(LocationReminder::getScheduleId)
+              .collect(Collectors.toSet())).stream()
+          .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+
+      for (LocationReminder reminder : reminders) {
+        if (reminder.getLatitude() != null && reminder.getLongitude() != null) {
+          reminder.setLocation(new GeoJsonPoint(reminder.getLongitude(), reminder.getLatitude()));
+        }
+        Schedule schedule = schedules.get(reminder.getScheduleId());
+        if (schedule != null) {
+          applySchedule(reminder, schedule);
+        } else {
+          reminder.setScheduleRecurring(false);
+        }
+      }
+
+      locationReminderRepository.saveAll(reminders);
+      log.info("Backfilled geo fields for {} location reminders", reminders.size());
+    } catch (Exception e) {
+      log.error("Failed to backfill location reminder geo fields", e);
+    }
+    geofenceEngine.reload();
+  }
+
+  private void applySchedule(LocationReminder reminder, Schedule schedule) {
+    Occurrence occurrence = occurrenceOf(schedule);
+    reminder.setWorkspaceId(schedule.getWorkspace());
+    reminder.setScheduleStartDate(occurrence.startDate());
+    reminder.setScheduleEndDate(endDateOf(occurrence));
+    reminder.setScheduleRecurring(ScheduleRecurrenceService.isRecurring(schedule));
+  }
+
+  // 진행 중이거나 다음 회차 (남은 회차가 없으면 원래 일정 기간)
+  private Occurrence occurrenceOf(Schedule schedule) {
+    Occurrence occurrence = scheduleRecurrenceService.currentOccurrence(schedule, new Date());
+    return occurrence != null ? occurrence
+        : new Occurrence(schedule.getStartDate(), schedule.getEndDate());
+  }
+
+  // 종료일이 없으면 시작일을 종료로 간주
+  private Date endDateOf(Occurrence occurrence) {
+    return occurrence.endDate() != null ? occurrence.endDate() : occurrence.startDate();
   }
 
   private LocationReminderDto toDto(LocationReminder reminder) {
@@ -138,7 +288,7 @@ public class LocationReminderService {
     }
 
     // 거리 계산 (Haversine 공식)
-    double distance = calculateDistance(
+    double distance = GeoUtils.distanceMeters(
         dto.getLatitude(), dto.getLongitude(),
         reminder.getLatitude(), reminder.getLongitude()
     );
@@ -150,68 +300,16 @@ public class LocationReminderService {
       return;
     }
 
-    // 스케줄 조회
-    Schedule schedule = scheduleRepository.findById(scheduleOid)
-        .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
-
-    // 참여자들에게 알림 전송 (도착한 사용자 제외)
-    List<ObjectId> participantIds = schedule.getParticipants();
-    if (participantIds == null || participantIds.isEmpty()) {
-      log.info("No participants in schedule to notify");
+    // 사용자당 1회만 발송 (서버 지오펜스 판정과 중복 방지)
+    if (!locationReminderRepository.claimArrival(reminder.getId(), arrivingUser.getId())) {
+      log.info("Arrival already notified for user {} in schedule {}", arrivingUser.getName(), scheduleId);
       return;
     }
 
-    List<User> participants = userRepository.findAllById(participantIds);
-
-    String placeName = reminder.getPlaceName() != null ? reminder.getPlaceName() : reminder.getAddress();
-    String title = "위치 도착 알림";
-    String body = String.format("%s님이 %s에 도착했습니다.", arrivingUser.getName(), placeName);
-
-    int notifiedCount = 0;
-    for (User participant : participants) {
-      // 도착한 사용자 본인에게는 알림 전송 안함
-      if (participant.getId().equals(arrivingUser.getId())) {
-        continue;
-      }
-
-      notificationService.sendPushNotificationWithData(
-          participant,
-          title,
-          body,
-          Map.of(
-              "type", "location_arrival",
-              "scheduleId", scheduleId,
-              "scheduleTitle", schedule.getTitle(),
-              "arrivedUserId", arrivingUser.getId().toHexString(),
-              "arrivedUserName", arrivingUser.getName(),
-              "placeName", placeName != null ? placeName : ""
-          )
-      );
-      notifiedCount++;
-    }
-
-    // 도착 시간 기록
-    reminder.setTriggeredAt(new Date());
-    locationReminderRepository.save(reminder);
-
-    log.info("Sent arrival notification to {} participants for schedule {}", notifiedCount, scheduleId);
-  }
-
-  /**
-   * Haversine 공식을 사용한 두 지점 간 거리 계산 (미터 단위)
-   */
-  private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-    final int R = 6371000; // 지구 반지름 (미터)
-
-    double latDistance = Math.toRadians(lat2 - lat1);
-    double lonDistance = Math.toRadians(lon2 - lon1);
-
-    double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-        * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-
-    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    // 스케줄 조회
+    Schedule schedule = scheduleRepository.findById(scheduleOid)
+        .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
 
-    return R * c;
+    arrivalNotifier.sendArrival(reminder, schedule, arrivingUser);
   }
 }
@@ -3,10 +3,12 @@ package com.weave.domain.phishing.controller;
 import com.weave.domain.phishing.dto.PhishingPatternDto;
 import com.weave.domain.phishing.dto.PhishingReportRequestDto;
 import com.weave.domain.phishing.dto.PhishingReportResponseDto;
+import com.weave.domain.phishing.dto.PhishingShadowReportDto;
 import com.weave.domain.phishing.dto.PhishingStatisticsDto;
 import com.weave.domain.phishing.service.PhishingDetectionService;
 import com.weave.domain.phishing.service.PhishingGuardService;
 import com.weave.domain.phishing.service.PhishingPatternService;
+import com.weave.domain.phishing.service.PhishingShadowEvaluationService;
 import com.weave.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -50,6 +52,7 @@ public class PhishingController {
   private final PhishingGuardService phishingGuardService;
   private final PhishingDetectionService detectionService;
   private final PhishingPatternService patternService;
+  private final PhishingShadowEvaluationService shadowEvaluationService;
 
   /**
    * 피싱 신고 접수
@@ -248,6 +251,44 @@ public class PhishingController {
     return ResponseEntity.ok(ApiResponse.ok(null));
   }
 
+  /**
+   * 섀도우 패턴 평가 리포트 조회 (관리자용)
+   */
+  @GetMapping("/shadow/report")
+  @PreAuthorize("hasRole('ADMIN')")
+  @Operation(summary = "섀도우 평가 리포트", description = "[관리자] 후보 패턴 세트와 운영 패턴 세트의 판정 차이, 정밀도/재현율, 지연 비교를 조회합니다.")
+  public ResponseEntity<ApiResponse<PhishingShadowReportDto>> getShadowReport() {
+
+    return ResponseEntity.ok(ApiResponse.ok(shadowEvaluationService.getReport()));
+  }
+
+  /**
+   * 섀도우 평가 통계 초기화 (관리자용)
+   */
+  @PostMapping("/shadow/reset")
+  @PreAuthorize("hasRole('ADMIN')")
+  @Operation(summary = "섀도우 평가 초기화", description = "[관리자] 섀도우 평가 통계를 초기화하고 후보 패턴을 다시 불러옵니다.")
+  public ResponseEntity<ApiResponse<Void>> resetShadowEvaluation() {
+
+    shadowEvaluationService.reset();
+    return ResponseEntity.ok(ApiResponse.ok(null));
+  }
+
+  /**
+   * 섀도우 후보 패턴 승격 (관리자용)
+   */
+  @PostMapping("/shadow/promote")
+  @PreAuthorize("hasRole('ADMIN')")
+  @Operation(summary = "섀도우 패턴 승격", description = "[관리자] 섀도우 후보 패턴을 운영 패턴 세트로 승격합니다.")
+  public ResponseEntity<ApiResponse<List<PhishingPatternDto>>> promoteShadowPatterns(
+      Principal principal) {
+
+    log.info("섀도우 패턴 승격 - 관리자: {}", principal.getName());
+
+    List<PhishingPatternDto> promoted = patternService.promoteShadowPatterns(principal.getName());
+    return ResponseEntity.ok(ApiResponse.ok(promoted));
+  }
+
   /**
    * 고위험 미처리 신고 조회 (관리자용)
    */
@@ -327,8 +368,11 @@ public class PhishingController {
     private double riskScore;
     private String riskLevel;
     private List<String> detectionReasons;
+    private List<String> matchedPatternIds;
     private String phishingType;
     private double confidence;
+    private String sensitivityLevel;
+    private Double mlScore;
 
     // Getters and setters
     public boolean isPhishing() {
@@ -363,6 +407,14 @@ public class PhishingController {
       this.detectionReasons = detectionReasons;
     }
 
+    public List<String> getMatchedPatternIds() {
+      return matchedPatternIds;
+    }
+
+    public void setMatchedPatternIds(List<String> matchedPatternIds) {
+      this.matchedPatternIds = matchedPatternIds;
+    }
+
     public String getPhishingType() {
       return phishingType;
     }
@@ -378,5 +430,21 @@ public class PhishingController {
     public void setConfidence(double confidence) {
       this.confidence = confidence;
     }
+
+    public String getSensitivityLevel() {
+      return sensitivityLevel;
+    }
+
+    public void setSensitivityLevel(String sensitivityLevel) {
+      this.sensitivityLevel = sensitivityLevel;
+    }
+
+    public Double getMlScore() {
+      return mlScore;
+    }
+
+    public void setMlScore(Double mlScore) {
+      this.mlScore = mlScore;
+    }
   }
 }
\ No newline at end of file
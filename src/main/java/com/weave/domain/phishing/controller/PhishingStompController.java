@@ -3,7 +3,9 @@ package com.weave.domain.phishing.controller;
 import com.weave.domain.phishing.dto.PhishingReportRequestDto;
 import com.weave.domain.phishing.dto.PhishingReportResponseDto;
 import com.weave.domain.phishing.dto.PhishingStatisticsDto;
+import com.weave.domain.phishing.service.PhishingAlertFanoutService;
 import com.weave.domain.phishing.service.PhishingGuardService;
+import com.weave.domain.phishing.service.PhishingRecentAlertBuffer;
 import com.weave.domain.phishing.service.PhishingStreamService;
 import java.security.Principal;
 import java.util.List;
@@ -28,12 +30,13 @@ public class PhishingStompController {
 
   private final PhishingGuardService phishingGuardService;
   private final PhishingStreamService streamService;
+  private final PhishingRecentAlertBuffer recentAlertBuffer;
   private final SimpMessagingTemplate messagingTemplate;
 
   /**
    * 피싱 신고 접수 (WebSocket)
    * 클라이언트 -> 서버: /app/phishing.report
-   * 서버 -> 클라이언트: /topic/phishing.alerts (브로드캐스트)
+   * 서버 -> 클라이언트: 워크스페이스/지역 토픽 및 개인 큐 (PhishingAlertFanoutService)
    */
   @MessageMapping("/phishing.report")
   public void reportPhishing(
@@ -48,21 +51,13 @@ public class PhishingStompController {
     }
 
     try {
-      // 피싱 신고 처리
+      // 피싱 신고 처리 (알림 팬아웃은 서비스에서 1회만 수행)
       PhishingReportResponseDto response = phishingGuardService.reportPhishing(principal.getName(), dto);
 
-      // 전체 알림 토픽에 브로드캐스트
-      messagingTemplate.convertAndSend("/topic/phishing.alerts", response);
-
-      // 워크스페이스별 알림
       if (dto.getWorkspaceId() != null) {
-        messagingTemplate.convertAndSend(
-          "/topic/phishing.alerts." + dto.getWorkspaceId(),
-          response
-        );
-
         // 워크스페이스 통계 업데이트 알림
         PhishingStatisticsDto stats = phishingGuardService.getWorkspaceStatistics(dto.getWorkspaceId());
+        recentAlertBuffer.updateWorkspaceStatistics(dto.getWorkspaceId(), stats);
         messagingTemplate.convertAndSend(
           "/topic/phishing.stats." + dto.getWorkspaceId(),
           stats
@@ -151,10 +146,10 @@ public class PhishingStompController {
       if ("/topic/phishing.alerts".equals(destination)) {
         log.info("STOMP: 새 피싱 알림 구독 - 사용자: {}", accessor.getUser().getName());
 
-        // 최근 피싱 알림 전송 (선택적)
+        // 최근 피싱 알림 전송 (메모리 링 버퍼에서 재전송, DB 조회 없음)
         if (accessor.getUser() != null) {
           List<PhishingReportResponseDto> recentAlerts =
-            streamService.getRecentAlerts(accessor.getUser().getName(), 10);
+            recentAlertBuffer.getRecentForUser(accessor.getUser().getName(), 10);
 
           messagingTemplate.convertAndSendToUser(
             accessor.getUser().getName(),
@@ -164,14 +159,32 @@ public class PhishingStompController {
         }
       }
 
+      // 지역 샤드 알림 구독 (초기 데이터 없음)
+      if (destination.startsWith(PhishingAlertFanoutService.REGION_TOPIC_PREFIX)) {
+        log.debug("STOMP: 지역 피싱 알림 구독 - {}", destination);
+        return;
+      }
+
       // 워크스페이스별 피싱 알림 구독
       if (destination.startsWith("/topic/phishing.alerts.")) {
         String workspaceId = destination.substring("/topic/phishing.alerts.".length());
         log.info("STOMP: 워크스페이스 피싱 알림 구독 - WS: {}", workspaceId);
 
-        // 워크스페이스 통계 초기 전송
-        if (accessor.getUser() != null) {
-          PhishingStatisticsDto stats = phishingGuardService.getWorkspaceStatistics(workspaceId);
+        // 워크스페이스 최근 알림 및 통계 초기 전송 (멤버에게만)
+        if (accessor.getUser() != null
+            && isWorkspaceMember(workspaceId, accessor.getUser().getName())) {
+          messagingTemplate.convertAndSendToUser(
+            accessor.getUser().getName(),
+            "/queue/phishing.recent.workspace",
+            recentAlertBuffer.getRecentForWorkspace(workspaceId, 10)
+          );
+
+          // 통계는 캐시 우선, 캐시 만료 시에만 조회 (재연결 폭주 시 DB 부하 제한)
+          PhishingStatisticsDto stats = recentAlertBuffer.getWorkspaceStatistics(workspaceId);
+          if (stats == null) {
+            stats = phishingGuardService.getWorkspaceStatistics(workspaceId);
+            recentAlertBuffer.updateWorkspaceStatistics(workspaceId, stats);
+          }
           messagingTemplate.convertAndSendToUser(
             accessor.getUser().getName(),
             "/queue/phishing.stats.initial",
@@ -185,8 +198,9 @@ public class PhishingStompController {
         String workspaceId = destination.substring("/topic/phishing.stats.".length());
         log.info("STOMP: 피싱 통계 스트림 구독 - WS: {}", workspaceId);
 
-        // 통계 스트리밍 시작
-        if (accessor.getUser() != null) {
+        // 통계 스트리밍 시작 (멤버에게만)
+        if (accessor.getUser() != null
+            && isWorkspaceMember(workspaceId, accessor.getUser().getName())) {
           streamService.startStatsStream(workspaceId, accessor.getUser().getName());
         }
       }
@@ -196,6 +210,14 @@ public class PhishingStompController {
     }
   }
 
+  private boolean isWorkspaceMember(String workspaceId, String userEmail) {
+    if (phishingGuardService.isWorkspaceMember(workspaceId, userEmail)) {
+      return true;
+    }
+    log.warn("STOMP: 워크스페이스 멤버가 아닌 사용자의 피싱 구독 - WS: {}, 사용자: {}", workspaceId, userEmail);
+    return false;
+  }
+
   /**
    * 통계 스트림 요청 DTO
    */
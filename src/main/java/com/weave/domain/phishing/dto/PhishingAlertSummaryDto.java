@@ -0,0 +1,27 @@
+package com.weave.domain.phishing.dto;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피싱 알림 요약 DTO
+ * 합치기 구간 동안 억제된 알림을 한 번에 전달 (예: "고위험 신고 5건")
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhishingAlertSummaryDto {
+
+  @Builder.Default
+  private String type = "phishing_alert_summary";
+  private String workspaceId;
+  private String riskLevel;
+  private Integer count;
+  private String latestReportId;
+  private Date since;
+  private Date until;
+}
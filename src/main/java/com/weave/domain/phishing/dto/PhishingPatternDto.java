@@ -62,6 +62,8 @@ public class PhishingPatternDto {
   private String language;
 
   private Boolean isActive;
+  private Boolean isShadow;
+  private String shadowOf;
   private Integer matchCount;
   private Integer falsePositiveCount;
   private Double accuracy;
@@ -90,6 +92,8 @@ public class PhishingPatternDto {
         .weight(pattern.getWeight())
         .language(pattern.getLanguage())
         .isActive(pattern.getIsActive())
+        .isShadow(pattern.getIsShadow())
+        .shadowOf(pattern.getShadowOf() != null ? pattern.getShadowOf().toString() : null)
         .matchCount(pattern.getMatchCount())
         .falsePositiveCount(pattern.getFalsePositiveCount())
         .accuracy(pattern.getAccuracy())
@@ -120,6 +124,10 @@ public class PhishingPatternDto {
     pattern.setWeight(this.weight);
     pattern.setLanguage(this.language);
     pattern.setIsActive(this.isActive != null ? this.isActive : true);
+    pattern.setIsShadow(this.isShadow != null ? this.isShadow : false);
+    if (this.shadowOf != null) {
+      pattern.setShadowOf(new ObjectId(this.shadowOf));
+    }
     pattern.setMatchCount(this.matchCount != null ? this.matchCount : 0);
     pattern.setFalsePositiveCount(this.falsePositiveCount != null ? this.falsePositiveCount : 0);
     pattern.setAccuracy(this.accuracy != null ? this.accuracy : 1.0);
@@ -0,0 +1,37 @@
+package com.weave.domain.phishing.dto;
+
+import com.weave.domain.phishing.entity.PhishingReport;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지역 피싱 알림 DTO
+ * 지역 토픽은 워크스페이스와 무관한 세션도 구독하므로 신고자/메시지 내용 없이 격자 단위 위치만 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhishingRegionAlertDto {
+
+  @Builder.Default
+  private String type = "phishing_region_alert";
+  private String reportId;
+  private String regionCell;
+  private String riskLevel;
+  private String phishingType;
+  private Date timestamp;
+
+  public static PhishingRegionAlertDto from(PhishingReport report, String regionCell) {
+    return PhishingRegionAlertDto.builder()
+      .reportId(report.getId() != null ? report.getId().toString() : null)
+      .regionCell(regionCell)
+      .riskLevel(report.getRiskLevel())
+      .phishingType(report.getPhishingType())
+      .timestamp(report.getTimestamp())
+      .build();
+  }
+}
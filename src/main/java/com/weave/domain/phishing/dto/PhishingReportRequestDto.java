@@ -56,6 +56,11 @@ public class PhishingReportRequestDto {
    */
   private List<String> detectionReasons;
 
+  /**
+   * 탐지 시 매칭된 패턴 ID 목록 (피드백 시 패턴 정확도 갱신용)
+   */
+  private List<String> matchedPatternIds;
+
   /**
    * 피싱 유형
    */
@@ -87,6 +92,18 @@ public class PhishingReportRequestDto {
    */
   private Boolean autoBlocked;
 
+  /**
+   * 탐지 시 사용한 민감도 (검사 결과의 sensitivityLevel)
+   */
+  private String sensitivityLevel;
+
+  /**
+   * 탐지 시 반영된 ML 점수 (검사 결과의 mlScore, 추론을 쓰지 않았으면 없음)
+   */
+  @Min(value = 0, message = "ML 점수는 0 이상이어야 합니다")
+  @Max(value = 1, message = "ML 점수는 1 이하여야 합니다")
+  private Double mlScore;
+
   /**
    * 위치 정보 DTO
    */
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
 
 /**
  * 피싱 신고 응답 DTO
@@ -27,6 +28,7 @@ public class PhishingReportResponseDto {
   private Double riskScore;
   private String riskLevel;
   private List<String> detectionReasons;
+  private List<String> matchedPatternIds;
   private String phishingType;
   private LocationDto location;
   private DeviceInfoDto deviceInfo;
@@ -75,6 +77,9 @@ public class PhishingReportResponseDto {
       .riskScore(report.getRiskScore())
       .riskLevel(report.getRiskLevel())
       .detectionReasons(report.getDetectionReasons())
+      .matchedPatternIds(report.getMatchedPatternIds() != null
+          ? report.getMatchedPatternIds().stream().map(ObjectId::toString).toList()
+          : null)
       .phishingType(report.getPhishingType())
       .location(locationDto)
       .deviceInfo(deviceInfoDto)
@@ -0,0 +1,77 @@
+package com.weave.domain.phishing.dto;
+
+import java.util.Date;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 섀도우 패턴 평가 리포트 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhishingShadowReportDto {
+
+  private Boolean enabled;
+  private Double sampleRate;
+  private Integer activePatternCount;
+  private Integer candidatePatternCount;
+
+  // 라이브 트래픽 샘플 비교 (운영 판정 기준)
+  private Long evaluatedCount;
+  private Long agreedCount;
+  private Long candidateOnlyPhishingCount;
+  private Long activeOnlyPhishingCount;
+  private Long droppedCount;
+  private Double agreementRate;
+
+  // 검증된 신고 기준 정확도 (정답 레이블)
+  private RulesetStats active;
+  private RulesetStats candidate;
+  private Double precisionDelta;
+  private Double recallDelta;
+  private Double latencyDeltaMs;
+
+  private List<VerdictDiff> recentDiffs;
+  private Date since;
+
+  /**
+   * 룰셋별 정확도/지연 통계
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class RulesetStats {
+
+    private Long truePositive;
+    private Long falsePositive;
+    private Long falseNegative;
+    private Long trueNegative;
+    private Double precision;
+    private Double recall;
+    private Double avgMatchLatencyMs;
+  }
+
+  /**
+   * 운영/후보 판정 차이 기록
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class VerdictDiff {
+
+    private String sender;
+    private Boolean activePhishing;
+    private Boolean candidatePhishing;
+    private Double activeScore;
+    private Double candidateScore;
+    private List<String> candidateReasons;
+    private Date timestamp;
+  }
+}
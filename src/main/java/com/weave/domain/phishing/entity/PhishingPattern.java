@@ -81,6 +81,20 @@ public class PhishingPattern {
   @Builder.Default
   private Boolean isActive = true;
 
+  /**
+   * 섀도우 후보 패턴 여부 (운영 판정에는 사용되지 않고 섀도우 평가에만 사용)
+   */
+  @Field("is_shadow")
+  @Indexed
+  @Builder.Default
+  private Boolean isShadow = false;
+
+  /**
+   * 섀도우 후보가 대체할 운영 패턴 ID (없으면 신규 추가 후보)
+   */
+  @Field("shadow_of")
+  private ObjectId shadowOf;
+
   /**
    * 우선순위 (낮을수록 높은 우선순위)
    */
@@ -95,6 +95,24 @@ public class PhishingReport {
   @Field("detection_reasons")
   private List<String> detectionReasons;
 
+  /**
+   * 탐지 시 매칭된 패턴 ID 목록
+   */
+  @Field("matched_pattern_ids")
+  private List<ObjectId> matchedPatternIds;
+
+  /**
+   * 탐지 시 민감도 (섀도우 평가 재현용)
+   */
+  @Field("sensitivity_level")
+  private String sensitivityLevel;
+
+  /**
+   * 탐지 시 반영된 ML 점수 (섀도우 평가 재현용)
+   */
+  @Field("ml_score")
+  private Double mlScore;
+
   /**
    * 피싱 유형 분류
    */
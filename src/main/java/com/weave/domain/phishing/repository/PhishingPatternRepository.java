@@ -11,13 +11,19 @@ import org.springframework.stereotype.Repository;
  * 피싱 패턴 리포지토리
  */
 @Repository
-public interface PhishingPatternRepository extends MongoRepository<PhishingPattern, ObjectId> {
+public interface PhishingPatternRepository extends MongoRepository<PhishingPattern, ObjectId>,
+    PhishingPatternRepositoryCustom {
 
   /**
    * 활성화된 패턴 조회
    */
   List<PhishingPattern> findByIsActiveTrue();
 
+  /**
+   * 섀도우 후보 패턴 조회
+   */
+  List<PhishingPattern> findByIsShadowTrue();
+
   /**
    * 카테고리별 패턴 조회
    */
@@ -33,11 +39,6 @@ public interface PhishingPatternRepository extends MongoRepository<PhishingPatte
    */
   List<PhishingPattern> findByCategoryAndLanguageAndIsActive(String category, String language, boolean isActive);
 
-  /**
-   * 설명으로 패턴 조회 (정확도 업데이트용)
-   */
-  List<PhishingPattern> findByDescriptionIn(List<String> descriptions);
-
   /**
    * 최소 정확도 이상 패턴 조회
    */
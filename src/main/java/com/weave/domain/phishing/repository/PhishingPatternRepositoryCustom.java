@@ -0,0 +1,18 @@
+package com.weave.domain.phishing.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import org.bson.types.ObjectId;
+
+public interface PhishingPatternRepositoryCustom {
+
+  /**
+   * 매칭된 패턴들의 사용 카운트를 ID 기준으로 일괄 증가 ($inc, 단일 쓰기)
+   */
+  void incrementMatchCounts(Collection<ObjectId> patternIds, Date usedAt);
+
+  /**
+   * 피드백 결과를 ID 기준으로 일괄 반영 (오탐이면 false_positive_count $inc 후 정확도 재계산, 단일 쓰기)
+   */
+  long applyAccuracyFeedback(Collection<ObjectId> patternIds, boolean isFalsePositive);
+}
@@ -0,0 +1,63 @@
+package com.weave.domain.phishing.repository;
+
+import com.weave.domain.phishing.entity.PhishingPattern;
+import java.util.Collection;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PhishingPatternRepositoryCustomImpl implements PhishingPatternRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public void incrementMatchCounts(Collection<ObjectId> patternIds, Date usedAt) {
+    if (patternIds == null || patternIds.isEmpty()) {
+      return;
+    }
+
+    Query query = new Query(Criteria.where("_id").in(patternIds));
+    Update update = new Update()
+        .inc("match_count", 1)
+        .set("last_used_at", usedAt);
+
+    mongoTemplate.updateMulti(query, update, PhishingPattern.class);
+  }
+
+  @Override
+  public long applyAccuracyFeedback(Collection<ObjectId> patternIds, boolean isFalsePositive) {
+    if (patternIds == null || patternIds.isEmpty()) {
+      return 0;
+    }
+
+    Query query = new Query(Criteria.where("_id").in(patternIds));
+
+    // 파이프라인 업데이트: 오탐 카운트 증가 후 증가된 값으로 정확도 재계산
+    AggregationUpdate update = AggregationUpdate.update();
+    if (isFalsePositive) {
+      update.set("false_positive_count").toValue(
+          ArithmeticOperators.Add.valueOf("false_positive_count").add(1));
+    }
+    update.set("accuracy").toValue(
+        ArithmeticOperators.Divide.valueOf("match_count").divideBy(
+            ArithmeticOperators.Add.valueOf("match_count").add("false_positive_count")));
+
+    // match_count + false_positive_count 가 0인 문서는 정확도 계산에서 제외
+    if (!isFalsePositive) {
+      query.addCriteria(new Criteria().orOperator(
+          Criteria.where("match_count").gt(0),
+          Criteria.where("false_positive_count").gt(0)));
+    }
+
+    return mongoTemplate.updateMulti(query, update, PhishingPattern.class).getModifiedCount();
+  }
+}
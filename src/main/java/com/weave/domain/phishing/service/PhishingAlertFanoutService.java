@@ -0,0 +1,127 @@
+package com.weave.domain.phishing.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.weave.domain.phishing.dto.PhishingRegionAlertDto;
+import com.weave.domain.phishing.dto.PhishingReportResponseDto;
+import com.weave.domain.phishing.entity.PhishingReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 피싱 알림 STOMP 팬아웃 서비스
+ * 신고 1건이 전체 세션 수에 비례하는 작업을 만들지 않도록 관심 기반 토픽으로만 전송
+ * - 워크스페이스 토픽: /topic/phishing.alerts.{workspaceId} (알림 폭주 시 요약으로 합침)
+ * - 지역 샤드 토픽: /topic/phishing.alerts.region.{cell} (위치가 있는 신고만, 신고자/메시지 없이 격자만 전달)
+ * - 개인 큐: /user/queue/phishing.personal
+ * - 전체 피드: /topic/phishing.alerts (고위험 신고만, 초당 전송 수 제한)
+ */
+@Service
+public class PhishingAlertFanoutService {
+
+  public static final String GLOBAL_TOPIC = "/topic/phishing.alerts";
+  public static final String WORKSPACE_TOPIC_PREFIX = "/topic/phishing.alerts.";
+  public static final String REGION_TOPIC_PREFIX = "/topic/phishing.alerts.region.";
+  public static final String PERSONAL_QUEUE = "/queue/phishing.personal";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final MeterRegistry meterRegistry;
+  private final PhishingAlertThrottle alertThrottle;
+  private final PhishingRecentAlertBuffer recentAlertBuffer;
+  private final RateLimiter globalFeedLimiter;
+  private final double regionCellDegrees;
+  private final String globalMinRiskLevel;
+
+  public PhishingAlertFanoutService(
+      SimpMessagingTemplate messagingTemplate,
+      MeterRegistry meterRegistry,
+      PhishingAlertThrottle alertThrottle,
+      PhishingRecentAlertBuffer recentAlertBuffer,
+      @Value("${phishing.alerts.global.max-per-second:1.0}") double globalMaxPerSecond,
+      @Value("${phishing.alerts.global.min-risk-level:high}") String globalMinRiskLevel,
+      @Value("${phishing.alerts.region.cell-degrees:0.5}") double regionCellDegrees) {
+    this.messagingTemplate = messagingTemplate;
+    this.meterRegistry = meterRegistry;
+    this.alertThrottle = alertThrottle;
+    this.recentAlertBuffer = recentAlertBuffer;
+    this.globalFeedLimiter = RateLimiter.create(globalMaxPerSecond);
+    this.globalMinRiskLevel = globalMinRiskLevel;
+    this.regionCellDegrees = regionCellDegrees;
+  }
+
+  /**
+   * 신고 알림 팬아웃
+   */
+  public void publish(PhishingReport report) {
+    PhishingReportResponseDto dto = PhishingReportResponseDto.from(report);
+
+    // 구독 시점 재전송용 최근 알림 버퍼 기록
+    recentAlertBuffer.record(dto);
+
+    // 워크스페이스별 알림 (합치기 구간의 첫 알림만 즉시 전송, 이후는 요약 전송)
+    if (report.getWorkspaceId() != null) {
+      String destination = WORKSPACE_TOPIC_PREFIX + report.getWorkspaceId();
+      boolean sendNow = alertThrottle.offer(report.getWorkspaceId().toString(), "topic",
+          report.getRiskLevel(), report.getId().toString(),
+          summary -> send(destination, summary, "workspace_summary"));
+      if (sendNow) {
+        send(destination, dto, "workspace");
+      }
+    }
+
+    // 지역 샤드 알림 (해당 지역을 구독한 세션만 수신, 누구나 구독 가능하므로 축약 DTO)
+    String regionCell = regionCell(report.getLocation());
+    if (regionCell != null) {
+      send(REGION_TOPIC_PREFIX + regionCell, PhishingRegionAlertDto.from(report, regionCell),
+          "region");
+    }
+
+    // 개인 알림
+    messagingTemplate.convertAndSendToUser(report.getUserEmail(), PERSONAL_QUEUE, dto);
+    meterRegistry.counter("phishing.alerts.fanout", "channel", "personal").increment();
+
+    // 전체 피드 (샘플링 + 속도 제한)
+    if (meetsGlobalRiskLevel(report.getRiskLevel()) && globalFeedLimiter.tryAcquire()) {
+      send(GLOBAL_TOPIC, dto, "global");
+    } else {
+      meterRegistry.counter("phishing.alerts.fanout.suppressed", "channel", "global").increment();
+    }
+  }
+
+  /**
+   * 위치 기반 지역 샤드 키 계산 (위경도를 고정 크기 격자로 분할)
+   */
+  public String regionCell(PhishingReport.Location location) {
+    if (location == null || location.getLatitude() == null || location.getLongitude() == null) {
+      return null;
+    }
+    return regionCell(location.getLatitude(), location.getLongitude());
+  }
+
+  public String regionCell(double latitude, double longitude) {
+    long latIndex = (long) Math.floor(latitude / regionCellDegrees);
+    long lonIndex = (long) Math.floor(longitude / regionCellDegrees);
+    return latIndex + "_" + lonIndex;
+  }
+
+  private boolean meetsGlobalRiskLevel(String riskLevel) {
+    return riskRank(riskLevel) >= riskRank(globalMinRiskLevel);
+  }
+
+  private int riskRank(String riskLevel) {
+    if ("high".equals(riskLevel)) {
+      return 3;
+    } else if ("medium".equals(riskLevel)) {
+      return 2;
+    } else if ("low".equals(riskLevel)) {
+      return 1;
+    }
+    return 0;
+  }
+
+  private void send(String destination, Object payload, String channel) {
+    messagingTemplate.convertAndSend(destination, payload);
+    meterRegistry.counter("phishing.alerts.fanout", "channel", channel).increment();
+  }
+}
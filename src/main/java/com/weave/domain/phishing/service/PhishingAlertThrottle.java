@@ -0,0 +1,241 @@
+package com.weave.domain.phishing.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.weave.domain.phishing.dto.PhishingAlertSummaryDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피싱 알림 합치기 및 속도 제한
+ * - 워크스페이스/수신자/위험 수준별 합치기 구간: 첫 알림은 즉시, 이후 알림은 구간 종료 시 요약 1건으로 전송
+ * - 디바이스별 1분 구간 카운터: 위험 수준별 분당 전송 수 제한 (구간 안에서는 한도까지 연달아 전송 가능)
+ * - 디바이스 한도를 넘긴 알림은 버리지 않고 합치기 구간에 넣어 요약으로 전송
+ */
+@Slf4j
+@Component
+public class PhishingAlertThrottle {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+  private final Cache<String, DeviceWindow> deviceWindows = CacheBuilder.newBuilder()
+      .expireAfterAccess(10, TimeUnit.MINUTES)
+      .maximumSize(100_000)
+      .build();
+
+  private final long highWindowMs;
+  private final long mediumWindowMs;
+  private final long lowWindowMs;
+  private final double highPerMinute;
+  private final double mediumPerMinute;
+  private final double lowPerMinute;
+
+  public PhishingAlertThrottle(
+      MeterRegistry meterRegistry,
+      @Value("${phishing.alerts.throttle.high.window-ms:10000}") long highWindowMs,
+      @Value("${phishing.alerts.throttle.medium.window-ms:30000}") long mediumWindowMs,
+      @Value("${phishing.alerts.throttle.low.window-ms:60000}") long lowWindowMs,
+      @Value("${phishing.alerts.throttle.high.device-per-minute:6}") double highPerMinute,
+      @Value("${phishing.alerts.throttle.medium.device-per-minute:3}") double mediumPerMinute,
+      @Value("${phishing.alerts.throttle.low.device-per-minute:1}") double lowPerMinute) {
+    this.meterRegistry = meterRegistry;
+    this.highWindowMs = highWindowMs;
+    this.mediumWindowMs = mediumWindowMs;
+    this.lowWindowMs = lowWindowMs;
+    this.highPerMinute = highPerMinute;
+    this.mediumPerMinute = mediumPerMinute;
+    this.lowPerMinute = lowPerMinute;
+  }
+
+  /**
+   * 알림 합치기 구간 진입
+   *
+   * @param workspaceId 워크스페이스 ID
+   * @param recipient   수신자 키 (사용자 ID 또는 토픽)
+   * @param riskLevel   위험 수준
+   * @param reportId    신고 ID
+   * @param onSummary   구간 종료 시 억제된 알림이 있으면 호출되는 요약 전송 콜백
+   * @return 즉시 전송해야 하면 true (구간의 첫 알림)
+   */
+  public boolean offer(String workspaceId, String recipient, String riskLevel, String reportId,
+      Consumer<PhishingAlertSummaryDto> onSummary) {
+    String key = workspaceId + ":" + recipient + ":" + riskLevel;
+    long now = System.currentTimeMillis();
+
+    Window opened = new Window(workspaceId, riskLevel, now, now + windowMs(riskLevel), onSummary);
+    Window existing = windows.putIfAbsent(key, opened);
+    if (existing == null) {
+      return true;
+    }
+
+    synchronized (existing) {
+      if (existing.closed) {
+        // 플러시와 경합한 경우 새 구간으로 처리
+        windows.put(key, opened);
+        return true;
+      }
+      existing.suppressed++;
+      existing.latestReportId = reportId;
+      existing.onSummary = onSummary;
+    }
+    meterRegistry.counter("phishing.alerts.coalesced", "risk", String.valueOf(riskLevel)).increment();
+    return false;
+  }
+
+  /**
+   * 디바이스별 분당 전송 수 확인
+   * 거절되면 호출 측에서 defer로 요약 구간에 넣음
+   */
+  public boolean tryAcquireDevice(String deviceToken, String riskLevel) {
+    if (deviceToken == null || deviceToken.isEmpty()) {
+      return false;
+    }
+
+    DeviceWindow window = deviceWindows.asMap()
+        .computeIfAbsent(riskLevel + ":" + deviceToken, k -> new DeviceWindow());
+    if (window.tryAcquire(System.currentTimeMillis(), perMinute(riskLevel))) {
+      return true;
+    }
+
+    meterRegistry.counter("phishing.alerts.device.throttled", "risk", String.valueOf(riskLevel)).increment();
+    return false;
+  }
+
+  /**
+   * 디바이스 한도로 보내지 못한 알림을 합치기 구간의 억제 건수에 더함 (구간 종료 시 요약 전송)
+   * 구간이 없거나 이미 닫혔으면 새 구간을 열고, 요약이 다시 거절되면 다음 구간으로 이월
+   */
+  public void defer(String workspaceId, String recipient, String riskLevel, String reportId,
+      int count, Consumer<PhishingAlertSummaryDto> onSummary) {
+    String key = workspaceId + ":" + recipient + ":" + riskLevel;
+
+    while (true) {
+      long now = System.currentTimeMillis();
+      Window window = windows.computeIfAbsent(key,
+          k -> new Window(workspaceId, riskLevel, now, now + windowMs(riskLevel), onSummary));
+      synchronized (window) {
+        if (!window.closed) {
+          window.suppressed += count;
+          window.latestReportId = reportId;
+          window.onSummary = onSummary;
+          return;
+        }
+      }
+      // 플러시와 경합한 경우 닫힌 구간을 치우고 다시 시도
+      windows.remove(key, window);
+    }
+  }
+
+  /**
+   * 만료된 합치기 구간 정리 및 요약 전송
+   */
+  @Scheduled(fixedDelay = 1000)
+  public void flushExpiredWindows() {
+    long now = System.currentTimeMillis();
+    Iterator<Map.Entry<String, Window>> iterator = windows.entrySet().iterator();
+
+    while (iterator.hasNext()) {
+      Map.Entry<String, Window> entry = iterator.next();
+      Window window = entry.getValue();
+      if (window.expiresAt > now) {
+        continue;
+      }
+
+      PhishingAlertSummaryDto summary = null;
+      synchronized (window) {
+        window.closed = true;
+        if (window.suppressed > 0) {
+          summary = PhishingAlertSummaryDto.builder()
+              .workspaceId(window.workspaceId)
+              .riskLevel(window.riskLevel)
+              .count(window.suppressed)
+              .latestReportId(window.latestReportId)
+              .since(new Date(window.openedAt))
+              .until(new Date(now))
+              .build();
+        }
+      }
+      windows.remove(entry.getKey(), window);
+
+      if (summary != null) {
+        try {
+          window.onSummary.accept(summary);
+        } catch (Exception e) {
+          log.error("피싱 알림 요약 전송 실패 - WS: {}", window.workspaceId, e);
+        }
+      }
+    }
+  }
+
+  private long windowMs(String riskLevel) {
+    if ("high".equals(riskLevel)) {
+      return highWindowMs;
+    } else if ("medium".equals(riskLevel)) {
+      return mediumWindowMs;
+    }
+    return lowWindowMs;
+  }
+
+  private double perMinute(String riskLevel) {
+    if ("high".equals(riskLevel)) {
+      return highPerMinute;
+    } else if ("medium".equals(riskLevel)) {
+      return mediumPerMinute;
+    }
+    return lowPerMinute;
+  }
+
+  /**
+   * 디바이스별 1분 구간 전송 수
+   */
+  private static class DeviceWindow {
+
+    private long startedAt;
+    private int count;
+
+    private synchronized boolean tryAcquire(long now, double perMinute) {
+      if (now - startedAt >= TimeUnit.MINUTES.toMillis(1)) {
+        startedAt = now;
+        count = 0;
+      }
+      if (count >= perMinute) {
+        return false;
+      }
+      count++;
+      return true;
+    }
+  }
+
+  /**
+   * 합치기 구간 상태
+   */
+  private static class Window {
+
+    private final String workspaceId;
+    private final String riskLevel;
+    private final long openedAt;
+    private final long expiresAt;
+    private Consumer<PhishingAlertSummaryDto> onSummary;
+    private String latestReportId;
+    private int suppressed;
+    private boolean closed;
+
+    private Window(String workspaceId, String riskLevel, long openedAt, long expiresAt,
+        Consumer<PhishingAlertSummaryDto> onSummary) {
+      this.workspaceId = workspaceId;
+      this.riskLevel = riskLevel;
+      this.openedAt = openedAt;
+      this.expiresAt = expiresAt;
+      this.onSummary = onSummary;
+    }
+  }
+}
@@ -2,13 +2,17 @@ package com.weave.domain.phishing.service;
 
 import com.weave.domain.phishing.controller.PhishingController.PhishingDetectionResult;
 import com.weave.domain.phishing.entity.PhishingPattern;
+import com.weave.domain.phishing.entity.PhishingReport;
 import com.weave.domain.phishing.repository.PhishingPatternRepository;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
 /**
@@ -21,6 +25,8 @@ public class PhishingDetectionService {
 
   private final PhishingPatternRepository patternRepository;
   private final PhishingMLInferenceService mlInferenceService;
+  private final PhishingPatternMatcher patternMatcher;
+  private final PhishingShadowEvaluationService shadowEvaluationService;
 
   /**
    * 피싱 탐지 수행
@@ -35,43 +41,39 @@ public class PhishingDetectionService {
 
     // 1. 패턴 매칭
     List<PhishingPattern> activePatterns = patternRepository.findByIsActiveTrue();
+    PhishingPatternMatcher.MatchResult patternMatch =
+        patternMatcher.match(activePatterns, sender, message);
 
-    for (PhishingPattern pattern : activePatterns) {
-      if (matchesPattern(message, sender, pattern)) {
-        totalScore += pattern.getWeight();
-        detectionReasons.add(pattern.getDescription());
+    List<ObjectId> matchedPatternIds = patternMatch.getMatchedPatterns().stream()
+        .map(PhishingPattern::getId)
+        .toList();
 
-        if (phishingType == null) {
-          phishingType = pattern.getCategory();
-        }
+    // 패턴 사용 카운트 증가 (ID 기준 일괄 $inc)
+    patternRepository.incrementMatchCounts(matchedPatternIds, new Date());
 
-        // 패턴 사용 카운트 증가
-        pattern.setMatchCount(pattern.getMatchCount() + 1);
-        pattern.setLastUsedAt(new java.util.Date());
-        patternRepository.save(pattern);
-      }
-    }
+    totalScore += patternMatch.getScore();
+    detectionReasons.addAll(patternMatch.getReasons());
+    phishingType = patternMatch.getPhishingType();
 
     // 2. 휴리스틱 분석
-    double heuristicScore = analyzeHeuristics(sender, message, detectionReasons);
-    totalScore += heuristicScore;
+    double baseScore = analyzeHeuristics(sender, message, detectionReasons);
 
     // 3. URL 분석
-    totalScore += analyzeUrls(message, detectionReasons);
+    baseScore += analyzeUrls(message, detectionReasons);
+    totalScore += baseScore;
 
     // 4. ML 모델 분석 (Python 추론 서버 사용)
-    double mlScore = 0.0;
+    Double appliedMlScore = null;
     if (mlInferenceService.isAvailable()) {
       try {
         PhishingMLInferenceService.PredictionResult mlResult =
             mlInferenceService.predict(sender, message, sensitivityLevel);
 
-        mlScore = mlResult.getRiskScore();
+        double mlScore = mlResult.getRiskScore();
         log.debug("Python ML 추론 결과 - 점수: {}, 레벨: {}, 소스: {}",
             mlScore, mlResult.getRiskLevel(), mlResult.getSource());
 
-        // ML 점수와 휴리스틱 점수 결합 (ML 60%, 휴리스틱 40%)
-        totalScore = (mlScore * 0.6) + (totalScore * 0.4);
+        appliedMlScore = mlScore;
 
         if (mlScore > 0.7 || mlResult.isPhishing()) {
           detectionReasons.add("AI 모델 피싱 판정 (신뢰도: " +
@@ -85,52 +87,29 @@ public class PhishingDetectionService {
       log.debug("Python ML 추론 서버 사용 불가, 휴리스틱만 사용");
     }
 
-    // 5. 민감도 조정
-    totalScore = adjustBySensitivity(totalScore, sensitivityLevel);
+    // 5. ML 점수 결합 및 민감도 조정
+    totalScore = computeFinalScore(totalScore, appliedMlScore, sensitivityLevel);
 
     // 6. 결과 설정
     result.setRiskScore(Math.min(totalScore, 1.0));
     result.setRiskLevel(calculateRiskLevel(totalScore));
     result.setPhishing(isPhishing(totalScore, sensitivityLevel));
     result.setDetectionReasons(detectionReasons);
+    result.setMatchedPatternIds(matchedPatternIds.stream().map(ObjectId::toString).toList());
     result.setPhishingType(phishingType != null ? phishingType : "unknown");
     result.setConfidence(calculateConfidence(totalScore, detectionReasons.size()));
+    // 신고 시 함께 저장해 검증 레이블 평가에서 같은 조건으로 재현
+    result.setSensitivityLevel(sensitivityLevel);
+    result.setMlScore(appliedMlScore);
 
     log.info("피싱 탐지 완료 - 점수: {}, 레벨: {}, 피싱 여부: {}",
       result.getRiskScore(), result.getRiskLevel(), result.isPhishing());
 
-    return result;
-  }
-
-  /**
-   * 패턴 매칭 확인
-   */
-  private boolean matchesPattern(String message, String sender, PhishingPattern pattern) {
-    if (pattern.getPatterns() == null || pattern.getPatterns().isEmpty()) {
-      return false;
-    }
+    // 7. 섀도우 후보 패턴 평가 (샘플링, 요청 스레드 밖에서 수행)
+    shadowEvaluationService.submitLive(activePatterns, sender, message, sensitivityLevel,
+        baseScore, appliedMlScore);
 
-    String combinedText = sender + " " + message;
-
-    for (String patternStr : pattern.getPatterns()) {
-      try {
-        if ("regex".equals(pattern.getType())) {
-          Pattern regex = Pattern.compile(patternStr, Pattern.CASE_INSENSITIVE);
-          Matcher matcher = regex.matcher(combinedText);
-          if (matcher.find()) {
-            return true;
-          }
-        } else if ("keyword".equals(pattern.getType())) {
-          if (combinedText.toLowerCase().contains(patternStr.toLowerCase())) {
-            return true;
-          }
-        }
-      } catch (Exception e) {
-        log.error("패턴 매칭 오류: {}", e.getMessage());
-      }
-    }
-
-    return false;
+    return result;
   }
 
   /**
@@ -202,10 +181,18 @@ public class PhishingDetectionService {
     return score;
   }
 
+  /**
+   * 규칙 점수와 ML 점수 결합 후 민감도 조정 (ML 60%, 규칙 40%)
+   */
+  static double computeFinalScore(double ruleScore, Double mlScore, String sensitivity) {
+    double score = mlScore != null ? (mlScore * 0.6) + (ruleScore * 0.4) : ruleScore;
+    return adjustBySensitivity(score, sensitivity);
+  }
+
   /**
    * 민감도 조정
    */
-  private double adjustBySensitivity(double score, String sensitivity) {
+  private static double adjustBySensitivity(double score, String sensitivity) {
     if ("high".equals(sensitivity)) {
       return score * 1.2;
     } else if ("low".equals(sensitivity)) {
@@ -229,7 +216,7 @@ public class PhishingDetectionService {
   /**
    * 피싱 여부 판단
    */
-  private boolean isPhishing(double score, String sensitivity) {
+  static boolean isPhishing(double score, String sensitivity) {
     double threshold;
     switch (sensitivity) {
       case "high":
@@ -347,26 +334,43 @@ public class PhishingDetectionService {
     return false;
   }
 
+  /**
+   * 검증된 신고 결과를 섀도우 평가의 정답 레이블로 전달
+   * 신고에 저장된 탐지 당시 민감도/ML 점수로 재현 (이전 신고는 medium, ML 점수 없음)
+   */
+  public void recordShadowOutcome(PhishingReport report, boolean actualPhishing) {
+    String sender = report.getSender();
+    String message = report.getMessage();
+    if (!shadowEvaluationService.isEnabled() || sender == null || message == null) {
+      return;
+    }
+
+    List<String> ignoredReasons = new ArrayList<>();
+    double baseScore = analyzeHeuristics(sender, message, ignoredReasons)
+        + analyzeUrls(message, ignoredReasons);
+    String sensitivityLevel = report.getSensitivityLevel() != null
+        ? report.getSensitivityLevel() : "medium";
+
+    shadowEvaluationService.submitLabeled(sender, message, sensitivityLevel, baseScore,
+        report.getMlScore(), actualPhishing);
+  }
+
   /**
    * 패턴 정확도 업데이트
+   * 신고에 기록된 매칭 패턴 ID 기준으로 단일 일괄 쓰기
    */
-  public void updatePatternAccuracy(List<String> detectionReasons, boolean isFalsePositive) {
-    if (detectionReasons == null || detectionReasons.isEmpty()) {
+  public void updatePatternAccuracy(List<ObjectId> matchedPatternIds, boolean isFalsePositive) {
+    if (matchedPatternIds == null || matchedPatternIds.isEmpty()) {
       return;
     }
 
     try {
-      List<PhishingPattern> patterns = patternRepository.findByDescriptionIn(detectionReasons);
-
-      for (PhishingPattern pattern : patterns) {
-        if (isFalsePositive) {
-          pattern.setFalsePositiveCount(pattern.getFalsePositiveCount() + 1);
-        }
-        pattern.updateAccuracy();
-        patternRepository.save(pattern);
-      }
+      long updated = patternRepository.applyAccuracyFeedback(
+          new HashSet<>(matchedPatternIds), isFalsePositive);
+      log.debug("패턴 정확도 업데이트 - 대상: {}, 반영: {}, 오탐: {}",
+          matchedPatternIds.size(), updated, isFalsePositive);
     } catch (Exception e) {
       log.error("패턴 정확도 업데이트 실패", e);
     }
   }
-}
\ No newline at end of file
+}
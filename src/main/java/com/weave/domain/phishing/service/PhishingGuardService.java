@@ -9,6 +9,7 @@ import com.weave.domain.phishing.repository.PhishingReportRepository;
 import com.weave.domain.phishing.repository.PhishingStatisticsRepository;
 import com.weave.domain.user.entity.User;
 import com.weave.domain.user.repository.UserRepository;
+import com.weave.domain.workspace.repository.WorkspaceRepository;
 import com.weave.global.BusinessException;
 import com.weave.global.ErrorCode;
 import java.time.LocalDate;
@@ -20,7 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,9 +35,10 @@ public class PhishingGuardService {
   private final PhishingReportRepository phishingReportRepository;
   private final PhishingStatisticsRepository phishingStatisticsRepository;
   private final UserRepository userRepository;
+  private final WorkspaceRepository workspaceRepository;
   private final PhishingDetectionService detectionService;
   private final PhishingNotificationService notificationService;
-  private final SimpMessagingTemplate messagingTemplate;
+  private final PhishingAlertFanoutService alertFanoutService;
 
   /**
    * 피싱 신고 접수
@@ -65,6 +66,9 @@ public class PhishingGuardService {
         .riskScore(dto.getRiskScore())
         .riskLevel(dto.getRiskLevel())
         .detectionReasons(dto.getDetectionReasons())
+        .matchedPatternIds(toObjectIds(dto.getMatchedPatternIds()))
+        .sensitivityLevel(dto.getSensitivityLevel())
+        .mlScore(dto.getMlScore())
         .phishingType(dto.getPhishingType())
         .status("pending")
         .autoBlocked(dto.getAutoBlocked() != null ? dto.getAutoBlocked() : false)
@@ -159,6 +163,12 @@ public class PhishingGuardService {
     PhishingReport report = phishingReportRepository.findById(new ObjectId(reportId))
         .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_ERROR));
 
+    boolean becameFalsePositive = "false_positive".equals(status)
+        && !"false_positive".equals(report.getStatus());
+    // 같은 상태로 다시 저장해도 레이블이 중복 집계되지 않도록 상태가 바뀐 경우만 반영
+    boolean labelChanged = ("verified".equals(status) || "false_positive".equals(status))
+        && !status.equals(report.getStatus());
+
     report.setStatus(status);
     if (adminNote != null) {
       report.setAdminNote(adminNote);
@@ -168,6 +178,16 @@ public class PhishingGuardService {
       report.setVerifiedAt(new Date());
     }
 
+    // 관리자 오탐 판정 시 패턴 정확도 반영 (이미 오탐 처리된 신고는 중복 반영하지 않음)
+    if (becameFalsePositive) {
+      detectionService.updatePatternAccuracy(report.getMatchedPatternIds(), true);
+    }
+
+    // 검증 결과를 섀도우 평가 정답 레이블로 사용
+    if (labelChanged) {
+      detectionService.recordShadowOutcome(report, "verified".equals(status));
+    }
+
     PhishingReport updated = phishingReportRepository.save(report);
     return PhishingReportResponseDto.from(updated);
   }
@@ -188,10 +208,13 @@ public class PhishingGuardService {
 
     report.setUserFeedback(feedback);
 
-    // False positive 처리
-    if (feedback.toLowerCase().contains("false") || feedback.toLowerCase().contains("오탐")) {
+    // False positive 처리 (이미 오탐 처리된 신고는 중복 반영하지 않음)
+    boolean isFalsePositiveFeedback = feedback.toLowerCase().contains("false")
+        || feedback.toLowerCase().contains("오탐");
+    if (isFalsePositiveFeedback && !"false_positive".equals(report.getStatus())) {
       report.setStatus("false_positive");
       updateFalsePositiveStatistics(report);
+      detectionService.recordShadowOutcome(report, false);
     }
 
     PhishingReport updated = phishingReportRepository.save(report);
@@ -235,6 +258,20 @@ public class PhishingGuardService {
     return PhishingStatisticsDto.from(stats);
   }
 
+  /**
+   * 워크스페이스 멤버 여부 (구독 시 최근 알림/통계 재전송 전 확인)
+   */
+  public boolean isWorkspaceMember(String workspaceId, String userEmail) {
+    if (workspaceId == null || !ObjectId.isValid(workspaceId)) {
+      return false;
+    }
+    return userRepository.findByEmail(userEmail)
+        .flatMap(user -> workspaceRepository.findById(new ObjectId(workspaceId))
+            .map(workspace -> workspace.getUsers() != null
+                && workspace.getUsers().contains(user.getId())))
+        .orElse(false);
+  }
+
   /**
    * 워크스페이스 피싱 통계 조회
    */
@@ -418,22 +455,38 @@ public class PhishingGuardService {
         phishingStatisticsRepository.save(userStats);
       }
 
-      // 패턴 정확도 업데이트
-      detectionService.updatePatternAccuracy(report.getDetectionReasons(), false);
+      // 패턴 정확도 업데이트 (매칭 패턴 ID 기준 일괄 반영)
+      detectionService.updatePatternAccuracy(report.getMatchedPatternIds(), true);
 
     } catch (Exception e) {
       log.error("오탐지 통계 업데이트 실패", e);
     }
   }
 
+  /**
+   * 패턴 ID 문자열 목록 변환 (유효하지 않은 ID는 무시)
+   */
+  private List<ObjectId> toObjectIds(List<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return null;
+    }
+
+    return ids.stream()
+        .filter(ObjectId::isValid)
+        .map(ObjectId::new)
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
   /**
    * 알림 처리
    */
   private void processNotifications(PhishingReport report, String body) {
     try {
-      // 고위험 알림
+      // 고위험 알림 (워크스페이스 멤버 알림 포함)
       if ("high".equals(report.getRiskLevel())) {
         notificationService.sendHighRiskAlert(report);
+        return;
       }
 
       // 워크스페이스 멤버에게 알림
@@ -452,25 +505,7 @@ public class PhishingGuardService {
    */
   private void broadcastPhishingAlert(PhishingReport report) {
     try {
-      PhishingReportResponseDto dto = PhishingReportResponseDto.from(report);
-
-      // 전체 피싱 알림 토픽
-      messagingTemplate.convertAndSend("/topic/phishing.alerts", dto);
-
-      // 워크스페이스별 알림
-      if (report.getWorkspaceId() != null) {
-        messagingTemplate.convertAndSend(
-            "/topic/phishing.alerts." + report.getWorkspaceId(),
-            dto
-        );
-      }
-
-      // 개인 알림
-      messagingTemplate.convertAndSendToUser(
-          report.getUserEmail(),
-          "/queue/phishing.personal",
-          dto
-      );
+      alertFanoutService.publish(report);
 
       log.info("피싱 알림 브로드캐스트 완료 - SMS ID: {}", report.getSmsId());
 
@@ -1,5 +1,6 @@
 package com.weave.domain.phishing.service;
 
+import com.weave.domain.phishing.dto.PhishingAlertSummaryDto;
 import com.weave.domain.phishing.entity.PhishingReport;
 import com.weave.domain.user.entity.User;
 import com.weave.domain.user.repository.UserRepository;
@@ -34,6 +35,7 @@ public class PhishingNotificationService {
   private final UserRepository userRepository;
   private final WorkspaceRepository workspaceRepository;
   private final WebClient webClient;
+  private final PhishingAlertThrottle alertThrottle;
 
   @Value("${fcm.server.key:}")
   private String fcmServerKey;
@@ -58,7 +60,7 @@ public class PhishingNotificationService {
       String title = "⚠️ 고위험 피싱 탐지";
       String body = String.format("발신자 %s 로부터 고위험 피싱 메시지가 탐지되었습니다.", report.getSender());
 
-      // 사용자에게 알림
+      // 신고자 본인 알림 (본인 신고에 대한 응답이므로 디바이스 한도를 소모하지 않음)
       sendPushNotificationAsync(user.getFcmToken(), title, body, createDataPayload(report))
           .subscribe();
 
@@ -74,6 +76,7 @@ public class PhishingNotificationService {
 
   /**
    * 워크스페이스 멤버 알림 (비동기 병렬 처리)
+   * 수신자별 합치기 구간의 첫 알림만 즉시 전송하고, 나머지는 구간 종료 시 요약으로 전송
    */
   @Async("notificationExecutor")
   public void notifyWorkspaceMembers(ObjectId workspaceId, String title, String body,
@@ -97,9 +100,24 @@ public class PhishingNotificationService {
       List<User> members = userRepository.findAllById(memberIds);
       Map<String, Object> dataPayload = createDataPayload(report);
 
+      String wsId = workspaceId.toString();
+      String riskLevel = report.getRiskLevel();
+      String reportId = report.getId().toString();
+
       // 비동기 병렬 알림 전송
       Flux.fromIterable(members)
           .filter(member -> member.getFcmToken() != null && !member.getFcmToken().isEmpty())
+          .filter(member -> alertThrottle.offer(wsId, member.getId().toString(), riskLevel, reportId,
+              summary -> sendAlertSummary(member, summary)))
+          .filter(member -> {
+            if (alertThrottle.tryAcquireDevice(member.getFcmToken(), riskLevel)) {
+              return true;
+            }
+            // 디바이스 한도 초과분은 요약에 포함
+            alertThrottle.defer(wsId, member.getId().toString(), riskLevel, reportId, 1,
+                summary -> sendAlertSummary(member, summary));
+            return false;
+          })
           .flatMap(member -> sendPushNotificationAsync(member.getFcmToken(), title, body, dataPayload)
               .onErrorResume(e -> {
                 log.error("Failed to notify workspace member: {}", member.getId(), e);
@@ -113,6 +131,46 @@ public class PhishingNotificationService {
     }
   }
 
+  /**
+   * 합쳐진 피싱 알림 요약 전송 (디바이스 한도 초과 시 다음 구간으로 이월)
+   */
+  private void sendAlertSummary(User member, PhishingAlertSummaryDto summary) {
+    String fcmToken = member.getFcmToken();
+    if (fcmToken == null || fcmToken.isEmpty()) {
+      return;
+    }
+    if (!alertThrottle.tryAcquireDevice(fcmToken, summary.getRiskLevel())) {
+      alertThrottle.defer(summary.getWorkspaceId(), member.getId().toString(),
+          summary.getRiskLevel(), summary.getLatestReportId(), summary.getCount(),
+          next -> sendAlertSummary(member, next));
+      return;
+    }
+
+    String title = "⚠️ 피싱 신고 " + summary.getCount() + "건";
+    String body = String.format("워크스페이스에 %s 피싱 신고 %d건이 추가로 접수되었습니다.",
+        riskLevelLabel(summary.getRiskLevel()), summary.getCount());
+
+    Map<String, Object> data = new HashMap<>();
+    data.put("type", summary.getType());
+    data.put("workspaceId", summary.getWorkspaceId());
+    data.put("riskLevel", summary.getRiskLevel());
+    data.put("count", summary.getCount());
+    data.put("latestReportId", summary.getLatestReportId());
+
+    sendPushNotificationAsync(fcmToken, title, body, data)
+        .onErrorResume(e -> Mono.empty())
+        .subscribe();
+  }
+
+  private String riskLevelLabel(String riskLevel) {
+    if ("high".equals(riskLevel)) {
+      return "고위험";
+    } else if ("medium".equals(riskLevel)) {
+      return "중위험";
+    }
+    return "저위험";
+  }
+
   /**
    * 통계 알림 전송 (일일/주간 리포트)
    */
@@ -0,0 +1,87 @@
+package com.weave.domain.phishing.service;
+
+import com.weave.domain.phishing.entity.PhishingPattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피싱 패턴 매칭기
+ * 운영 패턴과 섀도우 후보 패턴이 동일한 매칭 로직을 사용하도록 분리
+ */
+@Slf4j
+@Component
+public class PhishingPatternMatcher {
+
+  /**
+   * 패턴 목록 전체 매칭 (부수 효과 없음)
+   */
+  public MatchResult match(List<PhishingPattern> patterns, String sender, String message) {
+    MatchResult result = new MatchResult();
+
+    for (PhishingPattern pattern : patterns) {
+      if (matches(message, sender, pattern)) {
+        result.add(pattern);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * 패턴 매칭 확인
+   */
+  public boolean matches(String message, String sender, PhishingPattern pattern) {
+    if (pattern.getPatterns() == null || pattern.getPatterns().isEmpty()) {
+      return false;
+    }
+
+    String combinedText = sender + " " + message;
+
+    for (String patternStr : pattern.getPatterns()) {
+      try {
+        if ("regex".equals(pattern.getType())) {
+          Pattern regex = Pattern.compile(patternStr, Pattern.CASE_INSENSITIVE);
+          Matcher matcher = regex.matcher(combinedText);
+          if (matcher.find()) {
+            return true;
+          }
+        } else if ("keyword".equals(pattern.getType())) {
+          if (combinedText.toLowerCase().contains(patternStr.toLowerCase())) {
+            return true;
+          }
+        }
+      } catch (Exception e) {
+        log.error("패턴 매칭 오류: {}", e.getMessage());
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * 패턴 매칭 결과
+   */
+  @Getter
+  public static class MatchResult {
+
+    private double score;
+    private String phishingType;
+    private final List<String> reasons = new ArrayList<>();
+    private final List<PhishingPattern> matchedPatterns = new ArrayList<>();
+
+    private void add(PhishingPattern pattern) {
+      score += pattern.getWeight();
+      reasons.add(pattern.getDescription());
+      matchedPatterns.add(pattern);
+
+      if (phishingType == null) {
+        phishingType = pattern.getCategory();
+      }
+    }
+  }
+}
@@ -30,6 +30,7 @@ public class PhishingPatternService {
 
   private final PhishingPatternRepository patternRepository;
   private final PhishingNotificationService notificationService;
+  private final PhishingShadowEvaluationService shadowEvaluationService;
 
   /**
    * 패턴 목록 조회
@@ -90,7 +91,14 @@ public class PhishingPatternService {
     pattern.setRiskLevel(dto.getRiskLevel());
     pattern.setWeight(dto.getWeight());
     pattern.setLanguage(dto.getLanguage());
-    pattern.setIsActive(true);
+
+    // 섀도우 후보 패턴은 운영 판정에 사용하지 않음
+    boolean shadow = Boolean.TRUE.equals(dto.getIsShadow());
+    pattern.setIsActive(!shadow);
+    pattern.setIsShadow(shadow);
+    if (shadow && dto.getShadowOf() != null) {
+      pattern.setShadowOf(new ObjectId(dto.getShadowOf()));
+    }
     pattern.setCreatedBy(new ObjectId(createdBy));
     pattern.setCreatedAt(new Date());
     pattern.setUpdatedAt(new Date());
@@ -102,6 +110,10 @@ public class PhishingPatternService {
 
     PhishingPattern saved = patternRepository.save(pattern);
 
+    if (shadow) {
+      shadowEvaluationService.reset();
+    }
+
     // 관리자들에게 알림
     notifyAdmins("create", saved.getName());
 
@@ -149,6 +161,9 @@ public class PhishingPatternService {
       pattern.setLanguage(dto.getLanguage());
     }
     if (dto.getIsActive() != null) {
+      if (dto.getIsActive()) {
+        checkNotShadow(pattern);
+      }
       pattern.setIsActive(dto.getIsActive());
     }
 
@@ -190,6 +205,9 @@ public class PhishingPatternService {
     PhishingPattern pattern = patternRepository.findById(new ObjectId(patternId))
         .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
 
+    if (!pattern.getIsActive()) {
+      checkNotShadow(pattern);
+    }
     pattern.setIsActive(!pattern.getIsActive());
     pattern.setUpdatedAt(new Date());
 
@@ -197,6 +215,60 @@ public class PhishingPatternService {
     return PhishingPatternDto.from(saved);
   }
 
+  /**
+   * 섀도우 후보 패턴은 개별 활성화 불가 (승격으로만 운영 세트에 포함)
+   */
+  private void checkNotShadow(PhishingPattern pattern) {
+    if (Boolean.TRUE.equals(pattern.getIsShadow())) {
+      throw new BusinessException(ErrorCode.INVALID_PHISHING_PATTERN,
+          "섀도우 후보 패턴은 승격으로만 활성화할 수 있습니다.");
+    }
+  }
+
+  /**
+   * 섀도우 후보 패턴 승격
+   * 후보 패턴을 운영 세트로 전환하고, 대체 대상 운영 패턴은 비활성화
+   */
+  @Transactional
+  @CacheEvict(value = "phishingPatterns", allEntries = true)
+  public List<PhishingPatternDto> promoteShadowPatterns(String promotedBy) {
+    List<PhishingPattern> shadowPatterns = patternRepository.findByIsShadowTrue();
+    if (shadowPatterns.isEmpty()) {
+      return List.of();
+    }
+
+    log.info("Promoting {} shadow patterns by {}", shadowPatterns.size(), promotedBy);
+
+    List<ObjectId> replacedIds = shadowPatterns.stream()
+        .map(PhishingPattern::getShadowOf)
+        .filter(id -> id != null)
+        .collect(Collectors.toList());
+
+    List<PhishingPattern> toSave = new ArrayList<>();
+    for (PhishingPattern replaced : patternRepository.findAllById(replacedIds)) {
+      replaced.setIsActive(false);
+      replaced.setUpdatedAt(new Date());
+      toSave.add(replaced);
+    }
+
+    for (PhishingPattern pattern : shadowPatterns) {
+      pattern.setIsShadow(false);
+      pattern.setShadowOf(null);
+      pattern.setIsActive(true);
+      pattern.setUpdatedAt(new Date());
+      toSave.add(pattern);
+    }
+
+    patternRepository.saveAll(toSave);
+    shadowEvaluationService.reset();
+
+    notifyAdmins("update", shadowPatterns.size() + " shadow patterns");
+
+    return shadowPatterns.stream()
+        .map(PhishingPatternDto::from)
+        .collect(Collectors.toList());
+  }
+
   /**
    * 패턴 정확도 업데이트
    */
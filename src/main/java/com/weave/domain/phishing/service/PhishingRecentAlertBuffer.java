@@ -0,0 +1,241 @@
+package com.weave.domain.phishing.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.weave.domain.phishing.dto.PhishingReportResponseDto;
+import com.weave.domain.phishing.dto.PhishingStatisticsDto;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 피싱 알림 링 버퍼
+ * 구독 시점 재전송을 DB 조회 없이 처리하기 위해 사용자/워크스페이스별 최근 N건을 메모리에 보관
+ * 노드 간 공유는 Redis Stream(phishing:alerts:recent)으로 처리하고, 기동 시 스트림 끝에서 복원
+ */
+@Slf4j
+@Component
+public class PhishingRecentAlertBuffer {
+
+  private static final String STREAM_KEY = "phishing:alerts:recent";
+  private static final String FIELD_NODE = "node";
+  private static final String FIELD_PAYLOAD = "payload";
+  private static final long STATS_TTL_MS = 60 * 1000;
+
+  private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final int capacity;
+  private final long streamMaxLength;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final Cache<String, Deque<PhishingReportResponseDto>> userBuffers;
+  private final Cache<String, Deque<PhishingReportResponseDto>> workspaceBuffers;
+  private final Cache<String, CachedStats> workspaceStats = CacheBuilder.newBuilder()
+      .maximumSize(10_000)
+      .build();
+
+  private volatile String lastStreamId = "0-0";
+
+  public PhishingRecentAlertBuffer(
+      ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+      @Qualifier("redisObjectMapper") ObjectMapper objectMapper,
+      @Value("${phishing.alerts.recent.capacity:20}") int capacity,
+      @Value("${phishing.alerts.recent.stream-max-length:5000}") long streamMaxLength) {
+    this.reactiveRedisTemplate = reactiveRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.capacity = capacity;
+    this.streamMaxLength = streamMaxLength;
+    this.userBuffers = CacheBuilder.newBuilder()
+        .expireAfterAccess(1, TimeUnit.DAYS)
+        .maximumSize(100_000)
+        .build();
+    this.workspaceBuffers = CacheBuilder.newBuilder()
+        .expireAfterAccess(1, TimeUnit.DAYS)
+        .maximumSize(10_000)
+        .build();
+  }
+
+  /**
+   * 기동 시 Redis Stream 끝에서 버퍼 복원
+   */
+  @PostConstruct
+  public void warmUp() {
+    try {
+      List<MapRecord<String, Object, Object>> records = reactiveRedisTemplate.opsForStream()
+          .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count((int) streamMaxLength))
+          .collectList()
+          .block(Duration.ofSeconds(5));
+
+      if (records == null || records.isEmpty()) {
+        return;
+      }
+
+      Collections.reverse(records);
+      records.forEach(this::applyRecord);
+      lastStreamId = records.get(records.size() - 1).getId().getValue();
+      log.info("최근 피싱 알림 버퍼 복원 완료 - {}건", records.size());
+    } catch (Exception e) {
+      log.warn("최근 피싱 알림 버퍼 복원 실패 (빈 버퍼로 시작)", e);
+    }
+  }
+
+  /**
+   * 신규 알림 기록 (로컬 버퍼 반영 후 Redis Stream으로 다른 노드에 전파)
+   */
+  public void record(PhishingReportResponseDto alert) {
+    append(alert);
+
+    try {
+      String payload = objectMapper.writeValueAsString(alert);
+      MapRecord<String, String, String> record = StreamRecords.newRecord()
+          .in(STREAM_KEY)
+          .ofMap(Map.of(FIELD_NODE, nodeId, FIELD_PAYLOAD, payload));
+
+      reactiveRedisTemplate.opsForStream().add(record)
+          .then(reactiveRedisTemplate.opsForStream().trim(STREAM_KEY, streamMaxLength, true))
+          .timeout(Duration.ofSeconds(5))
+          .subscribe(
+              trimmed -> log.debug("최근 알림 스트림 기록 완료"),
+              error -> log.error("최근 알림 스트림 기록 실패", error)
+          );
+    } catch (JsonProcessingException e) {
+      log.error("최근 알림 직렬화 실패", e);
+    }
+  }
+
+  /**
+   * 다른 노드에서 기록한 알림 반영
+   */
+  @Scheduled(fixedDelay = 500)
+  public void pollStream() {
+    try {
+      List<MapRecord<String, Object, Object>> records = reactiveRedisTemplate.opsForStream()
+          .read(StreamReadOptions.empty().count(500),
+              StreamOffset.create(STREAM_KEY, ReadOffset.from(lastStreamId)))
+          .collectList()
+          .block(Duration.ofSeconds(2));
+
+      if (records == null || records.isEmpty()) {
+        return;
+      }
+
+      for (MapRecord<String, Object, Object> record : records) {
+        if (!nodeId.equals(record.getValue().get(FIELD_NODE))) {
+          applyRecord(record);
+        }
+      }
+      lastStreamId = records.get(records.size() - 1).getId().getValue();
+    } catch (Exception e) {
+      log.debug("최근 알림 스트림 조회 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 사용자 최근 알림 조회 (최신순)
+   */
+  public List<PhishingReportResponseDto> getRecentForUser(String email, int limit) {
+    return snapshot(userBuffers.getIfPresent(email), limit);
+  }
+
+  /**
+   * 워크스페이스 최근 알림 조회 (최신순)
+   */
+  public List<PhishingReportResponseDto> getRecentForWorkspace(String workspaceId, int limit) {
+    return snapshot(workspaceBuffers.getIfPresent(workspaceId), limit);
+  }
+
+  /**
+   * 캐시된 워크스페이스 통계 조회 (만료 시 null)
+   */
+  public PhishingStatisticsDto getWorkspaceStatistics(String workspaceId) {
+    CachedStats cached = workspaceStats.getIfPresent(workspaceId);
+    if (cached == null || System.currentTimeMillis() - cached.cachedAt > STATS_TTL_MS) {
+      return null;
+    }
+    return cached.stats;
+  }
+
+  /**
+   * 워크스페이스 통계 캐시 갱신
+   */
+  public void updateWorkspaceStatistics(String workspaceId, PhishingStatisticsDto stats) {
+    if (workspaceId != null && stats != null) {
+      workspaceStats.put(workspaceId, new CachedStats(stats, System.currentTimeMillis()));
+    }
+  }
+
+  private void applyRecord(MapRecord<String, Object, Object> record) {
+    Object payload = record.getValue().get(FIELD_PAYLOAD);
+    if (payload == null) {
+      return;
+    }
+
+    try {
+      append(objectMapper.readValue(payload.toString(), PhishingReportResponseDto.class));
+    } catch (JsonProcessingException e) {
+      log.warn("최근 알림 역직렬화 실패 - ID: {}", record.getId());
+    }
+  }
+
+  private void append(PhishingReportResponseDto alert) {
+    if (alert.getUserEmail() != null) {
+      push(userBuffers, alert.getUserEmail(), alert);
+    }
+    if (alert.getWorkspaceId() != null) {
+      push(workspaceBuffers, alert.getWorkspaceId(), alert);
+    }
+  }
+
+  private void push(Cache<String, Deque<PhishingReportResponseDto>> buffers, String key,
+      PhishingReportResponseDto alert) {
+    try {
+      Deque<PhishingReportResponseDto> buffer = buffers.get(key, ArrayDeque::new);
+      synchronized (buffer) {
+        buffer.addFirst(alert);
+        while (buffer.size() > capacity) {
+          buffer.removeLast();
+        }
+      }
+    } catch (ExecutionException e) {
+      log.warn("최근 알림 버퍼 생성 실패 - {}", key);
+    }
+  }
+
+  private List<PhishingReportResponseDto> snapshot(Deque<PhishingReportResponseDto> buffer,
+      int limit) {
+    if (buffer == null) {
+      return new ArrayList<>();
+    }
+
+    synchronized (buffer) {
+      return buffer.stream().limit(limit).toList();
+    }
+  }
+
+  private record CachedStats(PhishingStatisticsDto stats, long cachedAt) {
+
+  }
+}
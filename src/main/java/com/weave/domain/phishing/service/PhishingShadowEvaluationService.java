@@ -0,0 +1,406 @@
+package com.weave.domain.phishing.service;
+
+import com.weave.domain.phishing.dto.PhishingShadowReportDto;
+import com.weave.domain.phishing.entity.PhishingPattern;
+import com.weave.domain.phishing.repository.PhishingPatternRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 섀도우 패턴 평가 서비스
+ * 후보 패턴 세트를 라이브 탐지 트래픽 일부에 대해 요청 스레드 밖에서 실행하고
+ * 운영 패턴 세트와의 판정 차이, 정밀도/재현율, 매칭 지연을 비교
+ */
+@Slf4j
+@Service
+public class PhishingShadowEvaluationService {
+
+  private static final int RECENT_DIFF_LIMIT = 100;
+  private static final long PATTERN_REFRESH_INTERVAL_MS = 30_000;
+
+  private final PhishingPatternRepository patternRepository;
+  private final PhishingPatternMatcher patternMatcher;
+  private final MeterRegistry meterRegistry;
+  private final Executor shadowExecutor;
+
+  @Value("${phishing.shadow.enabled:false}")
+  private boolean enabled;
+
+  @Value("${phishing.shadow.sample-rate:0.1}")
+  private double sampleRate;
+
+  // 후보 패턴 캐시 (샘플마다 DB 조회하지 않도록)
+  private volatile PatternSnapshot patternSnapshot;
+
+  // 라이브 트래픽 비교 통계
+  private final AtomicLong evaluatedCount = new AtomicLong();
+  private final AtomicLong agreedCount = new AtomicLong();
+  private final AtomicLong candidateOnlyCount = new AtomicLong();
+  private final AtomicLong activeOnlyCount = new AtomicLong();
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  // 검증된 신고 기준 혼동 행렬
+  private final RulesetTracker activeTracker = new RulesetTracker();
+  private final RulesetTracker candidateTracker = new RulesetTracker();
+
+  private final Deque<PhishingShadowReportDto.VerdictDiff> recentDiffs =
+      new ConcurrentLinkedDeque<>();
+  private volatile Date since = new Date();
+
+  private Timer activeLatencyTimer;
+  private Timer candidateLatencyTimer;
+  private Counter evaluatedCounter;
+  private Counter candidateOnlyCounter;
+  private Counter activeOnlyCounter;
+  private Counter droppedCounter;
+
+  public PhishingShadowEvaluationService(
+      PhishingPatternRepository patternRepository,
+      PhishingPatternMatcher patternMatcher,
+      MeterRegistry meterRegistry,
+      @Qualifier("shadowEvaluationExecutor") Executor shadowExecutor) {
+    this.patternRepository = patternRepository;
+    this.patternMatcher = patternMatcher;
+    this.meterRegistry = meterRegistry;
+    this.shadowExecutor = shadowExecutor;
+  }
+
+  @PostConstruct
+  public void registerMetrics() {
+    activeLatencyTimer = meterRegistry.timer("phishing.shadow.match.latency", "ruleset", "active");
+    candidateLatencyTimer = meterRegistry.timer("phishing.shadow.match.latency", "ruleset",
+        "candidate");
+    evaluatedCounter = meterRegistry.counter("phishing.shadow.evaluations");
+    candidateOnlyCounter = meterRegistry.counter("phishing.shadow.verdict.diff", "direction",
+        "candidate_only");
+    activeOnlyCounter = meterRegistry.counter("phishing.shadow.verdict.diff", "direction",
+        "active_only");
+    droppedCounter = meterRegistry.counter("phishing.shadow.dropped");
+
+    Gauge.builder("phishing.shadow.precision", activeTracker, RulesetTracker::precision)
+        .tag("ruleset", "active").register(meterRegistry);
+    Gauge.builder("phishing.shadow.precision", candidateTracker, RulesetTracker::precision)
+        .tag("ruleset", "candidate").register(meterRegistry);
+    Gauge.builder("phishing.shadow.recall", activeTracker, RulesetTracker::recall)
+        .tag("ruleset", "active").register(meterRegistry);
+    Gauge.builder("phishing.shadow.recall", candidateTracker, RulesetTracker::recall)
+        .tag("ruleset", "candidate").register(meterRegistry);
+
+    if (enabled) {
+      log.info("섀도우 패턴 평가 활성화 - 샘플링 비율: {}", sampleRate);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 라이브 탐지 요청 샘플 제출 (샘플링 후 비동기 평가)
+   */
+  public void submitLive(List<PhishingPattern> activePatterns, String sender, String message,
+      String sensitivityLevel, double baseScore, Double mlScore) {
+    if (!enabled || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      return;
+    }
+
+    execute(() -> evaluateLive(activePatterns, sender, message, sensitivityLevel, baseScore,
+        mlScore));
+  }
+
+  /**
+   * 검증된 신고 결과 제출 (정답 레이블 기반 정밀도/재현율 집계)
+   * 민감도/ML 점수는 신고 탐지 당시 값
+   */
+  public void submitLabeled(String sender, String message, String sensitivityLevel,
+      double baseScore, Double mlScore, boolean actualPhishing) {
+    if (!enabled) {
+      return;
+    }
+
+    execute(() -> evaluateLabeled(sender, message, sensitivityLevel, baseScore, mlScore,
+        actualPhishing));
+  }
+
+  private void execute(Runnable task) {
+    try {
+      shadowExecutor.execute(() -> {
+        try {
+          task.run();
+        } catch (Exception e) {
+          log.error("섀도우 평가 실패", e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // 큐가 가득 차면 운영 요청에 영향이 없도록 샘플을 버림
+      droppedCount.incrementAndGet();
+      droppedCounter.increment();
+    }
+  }
+
+  private void evaluateLive(List<PhishingPattern> activePatterns, String sender, String message,
+      String sensitivityLevel, double baseScore, Double mlScore) {
+    PatternSnapshot snapshot = getSnapshot();
+
+    Verdict active = score(activePatterns, activeLatencyTimer, activeTracker, sender, message,
+        sensitivityLevel, baseScore, mlScore);
+    Verdict candidate = score(snapshot.candidatePatterns(activePatterns), candidateLatencyTimer,
+        candidateTracker, sender, message, sensitivityLevel, baseScore, mlScore);
+
+    evaluatedCount.incrementAndGet();
+    evaluatedCounter.increment();
+
+    if (active.phishing() == candidate.phishing()) {
+      agreedCount.incrementAndGet();
+      return;
+    }
+
+    if (candidate.phishing()) {
+      candidateOnlyCount.incrementAndGet();
+      candidateOnlyCounter.increment();
+    } else {
+      activeOnlyCount.incrementAndGet();
+      activeOnlyCounter.increment();
+    }
+
+    recentDiffs.addFirst(PhishingShadowReportDto.VerdictDiff.builder()
+        .sender(maskSender(sender))
+        .activePhishing(active.phishing())
+        .candidatePhishing(candidate.phishing())
+        .activeScore(Math.min(active.score(), 1.0))
+        .candidateScore(Math.min(candidate.score(), 1.0))
+        .candidateReasons(candidate.reasons())
+        .timestamp(new Date())
+        .build());
+
+    while (recentDiffs.size() > RECENT_DIFF_LIMIT) {
+      recentDiffs.pollLast();
+    }
+  }
+
+  // 관리자 리포트로 노출되므로 발신자는 끝자리(최대 4자)만 남김
+  private static String maskSender(String sender) {
+    if (sender == null) {
+      return null;
+    }
+    int visible = Math.min(4, sender.length() / 2);
+    return "*".repeat(sender.length() - visible) + sender.substring(sender.length() - visible);
+  }
+
+  private void evaluateLabeled(String sender, String message, String sensitivityLevel,
+      double baseScore, Double mlScore, boolean actualPhishing) {
+    PatternSnapshot snapshot = getSnapshot();
+
+    Verdict active = score(snapshot.activePatterns(), activeLatencyTimer, activeTracker, sender,
+        message, sensitivityLevel, baseScore, mlScore);
+    Verdict candidate = score(snapshot.candidatePatterns(snapshot.activePatterns()),
+        candidateLatencyTimer, candidateTracker, sender, message, sensitivityLevel, baseScore,
+        mlScore);
+
+    activeTracker.record(active.phishing(), actualPhishing);
+    candidateTracker.record(candidate.phishing(), actualPhishing);
+  }
+
+  private Verdict score(List<PhishingPattern> patterns, Timer timer, RulesetTracker tracker,
+      String sender, String message, String sensitivityLevel, double baseScore, Double mlScore) {
+    long start = System.nanoTime();
+    PhishingPatternMatcher.MatchResult match = patternMatcher.match(patterns, sender, message);
+    long elapsed = System.nanoTime() - start;
+
+    timer.record(elapsed, TimeUnit.NANOSECONDS);
+    tracker.recordLatency(elapsed);
+
+    double finalScore = PhishingDetectionService.computeFinalScore(
+        match.getScore() + baseScore, mlScore, sensitivityLevel);
+
+    return new Verdict(PhishingDetectionService.isPhishing(finalScore, sensitivityLevel),
+        finalScore, match.getReasons());
+  }
+
+  /**
+   * 섀도우 평가 리포트 조회
+   */
+  public PhishingShadowReportDto getReport() {
+    PatternSnapshot snapshot = getSnapshot();
+    long evaluated = evaluatedCount.get();
+
+    PhishingShadowReportDto.RulesetStats activeStats = activeTracker.toStats();
+    PhishingShadowReportDto.RulesetStats candidateStats = candidateTracker.toStats();
+
+    return PhishingShadowReportDto.builder()
+        .enabled(enabled)
+        .sampleRate(sampleRate)
+        .activePatternCount(snapshot.activePatterns().size())
+        .candidatePatternCount(snapshot.candidatePatterns(snapshot.activePatterns()).size())
+        .evaluatedCount(evaluated)
+        .agreedCount(agreedCount.get())
+        .candidateOnlyPhishingCount(candidateOnlyCount.get())
+        .activeOnlyPhishingCount(activeOnlyCount.get())
+        .droppedCount(droppedCount.get())
+        .agreementRate(evaluated > 0 ? (double) agreedCount.get() / evaluated : null)
+        .active(activeStats)
+        .candidate(candidateStats)
+        .precisionDelta(delta(candidateStats.getPrecision(), activeStats.getPrecision()))
+        .recallDelta(delta(candidateStats.getRecall(), activeStats.getRecall()))
+        .latencyDeltaMs(delta(candidateStats.getAvgMatchLatencyMs(),
+            activeStats.getAvgMatchLatencyMs()))
+        .recentDiffs(new ArrayList<>(recentDiffs))
+        .since(since)
+        .build();
+  }
+
+  /**
+   * 통계 초기화 및 패턴 캐시 갱신 (후보 세트 변경/승격 후 호출)
+   */
+  public void reset() {
+    evaluatedCount.set(0);
+    agreedCount.set(0);
+    candidateOnlyCount.set(0);
+    activeOnlyCount.set(0);
+    droppedCount.set(0);
+    activeTracker.reset();
+    candidateTracker.reset();
+    recentDiffs.clear();
+    patternSnapshot = null;
+    since = new Date();
+    log.info("섀도우 평가 통계 초기화");
+  }
+
+  private PatternSnapshot getSnapshot() {
+    PatternSnapshot snapshot = patternSnapshot;
+    if (snapshot == null
+        || System.currentTimeMillis() - snapshot.loadedAt() > PATTERN_REFRESH_INTERVAL_MS) {
+      snapshot = new PatternSnapshot(
+          patternRepository.findByIsActiveTrue(),
+          patternRepository.findByIsShadowTrue(),
+          System.currentTimeMillis());
+      patternSnapshot = snapshot;
+    }
+    return snapshot;
+  }
+
+  private static Double delta(Double candidate, Double active) {
+    if (candidate == null || active == null) {
+      return null;
+    }
+    return candidate - active;
+  }
+
+  /**
+   * 운영/섀도우 패턴 스냅샷
+   */
+  private record PatternSnapshot(List<PhishingPattern> activePatterns,
+                                 List<PhishingPattern> shadowPatterns,
+                                 long loadedAt) {
+
+    /**
+     * 후보 세트 = 운영 패턴 - 섀도우가 대체하는 패턴 + 섀도우 패턴
+     */
+    List<PhishingPattern> candidatePatterns(List<PhishingPattern> active) {
+      Set<ObjectId> replaced = shadowPatterns.stream()
+          .map(PhishingPattern::getShadowOf)
+          .filter(id -> id != null)
+          .collect(Collectors.toSet());
+
+      List<PhishingPattern> candidates = new ArrayList<>();
+      for (PhishingPattern pattern : active) {
+        if (!replaced.contains(pattern.getId())) {
+          candidates.add(pattern);
+        }
+      }
+      candidates.addAll(shadowPatterns);
+      return candidates;
+    }
+  }
+
+  private record Verdict(boolean phishing, double score, List<String> reasons) {
+
+  }
+
+  /**
+   * 룰셋별 혼동 행렬 및 매칭 지연 집계
+   */
+  private static class RulesetTracker {
+
+    private final AtomicLong truePositive = new AtomicLong();
+    private final AtomicLong falsePositive = new AtomicLong();
+    private final AtomicLong falseNegative = new AtomicLong();
+    private final AtomicLong trueNegative = new AtomicLong();
+    private final AtomicLong latencyNanos = new AtomicLong();
+    private final AtomicLong latencySamples = new AtomicLong();
+
+    void record(boolean predicted, boolean actual) {
+      if (predicted && actual) {
+        truePositive.incrementAndGet();
+      } else if (predicted) {
+        falsePositive.incrementAndGet();
+      } else if (actual) {
+        falseNegative.incrementAndGet();
+      } else {
+        trueNegative.incrementAndGet();
+      }
+    }
+
+    void recordLatency(long nanos) {
+      latencyNanos.addAndGet(nanos);
+      latencySamples.incrementAndGet();
+    }
+
+    double precision() {
+      long tp = truePositive.get();
+      long denominator = tp + falsePositive.get();
+      return denominator > 0 ? (double) tp / denominator : Double.NaN;
+    }
+
+    double recall() {
+      long tp = truePositive.get();
+      long denominator = tp + falseNegative.get();
+      return denominator > 0 ? (double) tp / denominator : Double.NaN;
+    }
+
+    void reset() {
+      truePositive.set(0);
+      falsePositive.set(0);
+      falseNegative.set(0);
+      trueNegative.set(0);
+      latencyNanos.set(0);
+      latencySamples.set(0);
+    }
+
+    PhishingShadowReportDto.RulesetStats toStats() {
+      double precision = precision();
+      double recall = recall();
+      long samples = latencySamples.get();
+
+      return PhishingShadowReportDto.RulesetStats.builder()
+          .truePositive(truePositive.get())
+          .falsePositive(falsePositive.get())
+          .falseNegative(falseNegative.get())
+          .trueNegative(trueNegative.get())
+          .precision(Double.isNaN(precision) ? null : precision)
+          .recall(Double.isNaN(recall) ? null : recall)
+          .avgMatchLatencyMs(samples > 0 ? latencyNanos.get() / (double) samples / 1_000_000 : null)
+          .build();
+    }
+  }
+}
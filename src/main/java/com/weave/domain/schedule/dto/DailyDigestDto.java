@@ -0,0 +1,24 @@
+package com.weave.domain.schedule.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+
+/**
+ * 사용자별 오늘의 일정 요약 (집계 결과)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyDigestDto {
+
+  @Id
+  private ObjectId userId;
+
+  private List<String> titles;  // 시작 시각 순 최대 3개
+
+  private Integer count;
+}
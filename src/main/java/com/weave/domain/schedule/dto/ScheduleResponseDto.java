@@ -37,6 +37,13 @@ public class ScheduleResponseDto {
   @JsonProperty("repeat_type")
   private String repeatType;
 
+  @JsonProperty("repeat_until")
+  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+  private Date repeatUntil;
+
+  @JsonProperty("exception_dates")
+  private List<String> exceptionDates;
+
   @JsonProperty("calendar_type")
   private String calendarType;
 
@@ -74,6 +81,8 @@ public class ScheduleResponseDto {
         .startDate(schedule.getStartDate())
         .endDate(schedule.getEndDate())
         .repeatType(schedule.getRepeatType())
+        .repeatUntil(schedule.getRepeatUntil())
+        .exceptionDates(schedule.getExceptionDates())
         .calendarType(schedule.getCalendarType())
         .isAllDay(schedule.getIsAllDay())
         .participants(schedule.getParticipants() != null
@@ -48,6 +48,17 @@ public class UpdateRequestScheduleDto {
   @NotNull
   private String repeatType;
 
+  @Schema(example = "2025-12-31T23:59:59", description = "반복 종료 날짜 (없으면 계속 반복)")
+  @JsonProperty("repeat_until")
+  @JsonAlias({"repeatUntil", "repeat_until"})
+  @JsonDeserialize(using = FlexibleDateDeserializer.class)
+  private Date repeatUntil;
+
+  @Schema(example = "[\"2025-03-10\"]", description = "반복에서 제외할 날짜 (yyyy-MM-dd)")
+  @JsonProperty("exception_dates")
+  @JsonAlias({"exceptionDates", "exception_dates"})
+  private List<String> exceptionDates;
+
   @Schema(example = "[\"66a61517670be7ef30b10244\", \"66a7ae7f25483684cf347cd9\"]", description = "참여자")
   @NotEmpty
   private List<String> participants;
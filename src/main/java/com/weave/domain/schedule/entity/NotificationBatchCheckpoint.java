@@ -0,0 +1,47 @@
+package com.weave.domain.schedule.entity;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 알림 배치 파티션 체크포인트
+ * id = {job}:{date}:{partition}, 파티션을 선점한 노드가 청크마다 마지막 처리 사용자와 lease를 갱신
+ * 노드가 중단되면 lease 만료 후 다른 노드가 last_user_id 다음부터 이어서 처리
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "notification_batch_checkpoints")
+public class NotificationBatchCheckpoint {
+
+  @Id
+  private String id;
+
+  @Field("owner")
+  private String owner;
+
+  @Field("lease_until")
+  private Date leaseUntil;
+
+  @Field("last_user_id")
+  private ObjectId lastUserId;  // 마지막으로 처리한 사용자 (사용자 id 오름차순 처리)
+
+  @Field("processed_count")
+  private Integer processedCount;
+
+  @Field("completed")
+  private Boolean completed;
+
+  @Field("updated_at")
+  @Indexed(expireAfter = "7d")
+  private Date updatedAt;
+}
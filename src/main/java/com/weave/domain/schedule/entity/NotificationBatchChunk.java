@@ -0,0 +1,33 @@
+package com.weave.domain.schedule.entity;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 알림 배치 청크 발송 기록 (멱등성 마커)
+ * id = {checkpoint id}:{청크 첫 사용자 id}, 발송 전에 insert해서 재시작 시 같은 청크를 다시 보내지 않음
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "notification_batch_chunks")
+public class NotificationBatchChunk {
+
+  @Id
+  private String id;
+
+  @Field("size")
+  private Integer size;
+
+  @Field("created_at")
+  @Indexed(expireAfter = "3d")
+  private Date createdAt;
+}
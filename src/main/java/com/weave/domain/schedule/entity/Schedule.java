@@ -11,6 +11,7 @@ import org.bson.types.ObjectId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -21,8 +22,11 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @CompoundIndex(name = "workspace_enddate_idx", def = "{'workspace': 1, 'end_date': 1}")
 @CompoundIndex(name = "workspace_dates_idx", def = "{'workspace': 1, 'start_date': 1, 'end_date': 1}")
 @CompoundIndex(name = "participants_startdate_idx", def = "{'participants': 1, 'start_date': 1}")
+@CompoundIndex(name = "workspace_repeat_startdate_idx", def = "{'workspace': 1, 'repeat_type': 1, 'start_date': 1}")
+@CompoundIndex(name = "reminder_due_pending_idx", def = "{'reminder_due_at': 1}",
+    partialFilter = "{ 'reminder_sent': false }")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Schedule {
@@ -54,6 +58,12 @@ public class Schedule {
   @Builder.Default
   private List<ObjectId> participants = List.of();
 
+  @Field("repeat_until")
+  private Date repeatUntil;  // 반복 종료 시각 (null이면 계속 반복)
+
+  @Field("exception_dates")
+  private List<String> exceptionDates;  // 반복에서 제외할 회차 날짜 (yyyy-MM-dd)
+
   @Field("calendar_type")
   @Builder.Default
   private String calendarType = "solar";
@@ -69,6 +79,9 @@ public class Schedule {
   @Field("reminder_minutes")
   private Integer reminderMinutes;  // 알림 시간 (분 단위, null이면 알림 없음)
 
+  @Field("reminder_due_at")
+  private Date reminderDueAt;  // 다음 알림 발송 시각 (회차 시작 - reminder_minutes, 반복 일정은 발송 후 다음 회차로 이동)
+
   @Field("reminder_sent")
   @Builder.Default
   private Boolean reminderSent = false;  // 알림 전송 여부
@@ -80,12 +93,13 @@ public class Schedule {
   @Builder.Default
   private Boolean isImportant = false;  // 중요 일정 여부 (D-day 알림용)
 
-  @Field("last_dday_notification_sent")
-  private Integer lastDdayNotificationSent;  // 마지막으로 발송된 D-day 알림 (3 = D-3, 1 = D-1, 0 = D-day)
+  @Transient
+  private Date occurrenceStart;  // 서버에서 전개한 반복 일정 회차의 시작 시간 (저장하지 않음)
 
   @CreatedDate
   private Date createdAt;
 
   @LastModifiedDate
+  @Indexed
   private Date updatedAt;
 }
\ No newline at end of file
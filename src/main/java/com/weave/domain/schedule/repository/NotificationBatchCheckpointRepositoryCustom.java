@@ -0,0 +1,24 @@
+package com.weave.domain.schedule.repository;
+
+import com.weave.domain.schedule.entity.NotificationBatchCheckpoint;
+import java.util.Date;
+import org.bson.types.ObjectId;
+
+public interface NotificationBatchCheckpointRepositoryCustom {
+
+  /**
+   * 파티션 선점 (없으면 생성)
+   * 완료됐거나 다른 노드의 lease가 남아 있으면 null
+   */
+  NotificationBatchCheckpoint claim(String id, String owner, Date leaseUntil);
+
+  /**
+   * 청크 처리 후 체크포인트 전진 및 lease 연장 (선점을 잃었으면 false)
+   */
+  boolean advance(String id, String owner, ObjectId lastUserId, int processed, Date leaseUntil);
+
+  /**
+   * 파티션 완료 처리
+   */
+  void complete(String id, String owner);
+}
@@ -0,0 +1,74 @@
+package com.weave.domain.schedule.repository;
+
+import com.weave.domain.schedule.entity.NotificationBatchCheckpoint;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchCheckpointRepositoryCustomImpl implements
+    NotificationBatchCheckpointRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public NotificationBatchCheckpoint claim(String id, String owner, Date leaseUntil) {
+    Date now = new Date();
+    Query query = new Query(Criteria.where("_id").is(id)
+        .and("completed").ne(true)
+        .orOperator(
+            Criteria.where("lease_until").exists(false),
+            Criteria.where("lease_until").lt(now),
+            Criteria.where("owner").is(owner)));
+
+    Update update = new Update()
+        .set("owner", owner)
+        .set("lease_until", leaseUntil)
+        .set("updated_at", now)
+        .setOnInsert("processed_count", 0)
+        .setOnInsert("completed", false);
+
+    try {
+      return mongoTemplate.findAndModify(query, update,
+          FindAndModifyOptions.options().upsert(true).returnNew(true),
+          NotificationBatchCheckpoint.class);
+    } catch (DuplicateKeyException e) {
+      // 이미 있는 체크포인트가 완료됐거나 다른 노드가 처리 중
+      return null;
+    }
+  }
+
+  @Override
+  public boolean advance(String id, String owner, ObjectId lastUserId, int processed,
+      Date leaseUntil) {
+    Query query = new Query(Criteria.where("_id").is(id).and("owner").is(owner));
+
+    Update update = new Update()
+        .set("last_user_id", lastUserId)
+        .inc("processed_count", processed)
+        .set("lease_until", leaseUntil)
+        .set("updated_at", new Date());
+
+    return mongoTemplate.updateFirst(query, update, NotificationBatchCheckpoint.class)
+        .getModifiedCount() > 0;
+  }
+
+  @Override
+  public void complete(String id, String owner) {
+    Query query = new Query(Criteria.where("_id").is(id).and("owner").is(owner));
+
+    Update update = new Update()
+        .set("completed", true)
+        .set("updated_at", new Date());
+
+    mongoTemplate.updateFirst(query, update, NotificationBatchCheckpoint.class);
+  }
+}
@@ -0,0 +1,11 @@
+package com.weave.domain.schedule.repository;
+
+import com.weave.domain.schedule.entity.NotificationBatchChunk;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationBatchChunkRepository extends
+    MongoRepository<NotificationBatchChunk, String> {
+
+}
@@ -1,6 +1,7 @@
 package com.weave.domain.schedule.repository;
 
 import com.weave.domain.schedule.entity.Schedule;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import org.bson.types.ObjectId;
@@ -9,13 +10,8 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ScheduleRepository extends MongoRepository<Schedule, ObjectId> {
-
-  /**
-   * 오늘 시작하는 일정 조회
-   */
-  @Query("{ 'start_date': { $gte: ?0, $lt: ?1 } }")
-  List<Schedule> findSchedulesStartingToday(Date startOfDay, Date endOfDay);
+public interface ScheduleRepository extends MongoRepository<Schedule, ObjectId>,
+    ScheduleRepositoryCustom {
 
   /**
    * 특정 시간에 시작하는 일정 조회 (범위)
@@ -52,6 +48,27 @@ public interface ScheduleRepository extends MongoRepository<Schedule, ObjectId>
   List<Schedule> findByWorkspaceAndStartDateAfterAndParticipant(
       ObjectId workspaceId, Date startDate, ObjectId participantId);
 
+  /**
+   * 워크스페이스별 반복 일정 조회 (before 이전에 시작한 반복 일정, 회차는 서버에서 전개)
+   */
+  @Query("{ 'workspace': ?0, 'repeat_type': { $in: ?1 }, 'start_date': { $lt: ?2 } }")
+  List<Schedule> findRecurringByWorkspace(ObjectId workspaceId, Collection<String> repeatTypes,
+      Date before);
+
+  /**
+   * 워크스페이스별 반복 일정 원본 조회 (before 이전에 시작, 반복 타입이 null/none이 아닌 모든 일정)
+   * 클라이언트가 펼치는 기존 응답용이므로 서버 전개 대상 타입으로 제한하지 않음
+   */
+  @Query("{ 'workspace': ?0, 'repeat_type': { $ne: null, $not: { $regex: '^none$', $options: 'i' } }, 'start_date': { $lt: ?1 } }")
+  List<Schedule> findRepeatingByWorkspace(ObjectId workspaceId, Date before);
+
+  /**
+   * 워크스페이스별 참여자의 반복 일정 조회 (Feed용)
+   */
+  @Query("{ 'workspace': ?0, 'repeat_type': { $in: ?1 }, 'start_date': { $lt: ?2 }, 'participants': ?3 }")
+  List<Schedule> findRecurringByWorkspaceAndParticipant(ObjectId workspaceId,
+      Collection<String> repeatTypes, Date before, ObjectId participantId);
+
   /**
    * 워크스페이스별 연도 일정 조회
    */
@@ -59,11 +76,24 @@ public interface ScheduleRepository extends MongoRepository<Schedule, ObjectId>
   List<Schedule> findByWorkspaceAndYear(ObjectId workspaceId, Date yearStart, Date yearEnd);
 
   /**
-   * 알림 대상 일정 조회 (reminderMinutes가 설정되어 있고, 아직 알림이 발송되지 않은 일정)
-   * 현재 시간 + reminderMinutes 범위 내의 일정을 조회
+   * 알림 발송 시각이 (after, until] 구간인 미발송 일정 조회 (타이밍 휠 적재용, 발송 시각만 조회)
+   */
+  @Query(value = "{ 'reminder_due_at': { $gt: ?0, $lte: ?1 }, 'reminder_sent': false }",
+      fields = "{ 'reminder_due_at': 1 }")
+  List<Schedule> findReminderDueBetween(Date after, Date until);
+
+  /**
+   * 특정 시각 이후 변경된 일정 조회 (다른 노드에서 생성/수정된 알림 반영용)
    */
-  @Query("{ 'reminder_minutes': { $ne: null }, 'reminder_sent': { $ne: true }, 'start_date': { $gte: ?0, $lt: ?1 } }")
-  List<Schedule> findSchedulesForReminder(Date startTime, Date endTime);
+  @Query(value = "{ 'updatedAt': { $gt: ?0 } }",
+      fields = "{ 'reminder_due_at': 1, 'reminder_sent': 1 }")
+  List<Schedule> findUpdatedAfter(Date since);
+
+  /**
+   * 알림 발송 시각이 채워지지 않은 일정 조회 (기존 데이터 보정용)
+   */
+  @Query("{ 'reminder_minutes': { $ne: null }, 'reminder_due_at': { $exists: false }, 'reminder_sent': { $ne: true } }")
+  List<Schedule> findReminderDueAtMissing();
 
   /**
    * 중요 일정 조회 (D-day 알림용)
@@ -72,6 +102,12 @@ public interface ScheduleRepository extends MongoRepository<Schedule, ObjectId>
   @Query("{ 'is_important': true, 'start_date': { $gte: ?0, $lt: ?1 } }")
   List<Schedule> findImportantSchedules(Date startTime, Date endTime);
 
+  /**
+   * 중요 반복 일정 조회 (D-day 알림용, before 이전에 시작한 반복 일정)
+   */
+  @Query("{ 'is_important': true, 'repeat_type': { $in: ?0 }, 'start_date': { $lt: ?1 } }")
+  List<Schedule> findImportantRecurringSchedules(Collection<String> repeatTypes, Date before);
+
   /**
    * 워크스페이스별 일정 삭제
    */
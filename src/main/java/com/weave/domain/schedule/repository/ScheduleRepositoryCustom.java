@@ -0,0 +1,35 @@
+package com.weave.domain.schedule.repository;
+
+import com.weave.domain.schedule.dto.DailyDigestDto;
+import com.weave.domain.schedule.entity.Schedule;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+
+public interface ScheduleRepositoryCustom {
+
+  /**
+   * 발송 시각이 지난 미발송 알림 조회 (발송 시각 순, reminder_due_pending_idx 사용)
+   */
+  List<Schedule> findDueReminders(Date now, int limit);
+
+  /**
+   * 알림 선점 (findAndModify)
+   * reminder_due_at이 조회 시점 값 그대로일 때만 다음 발송 시각으로 넘기고 발송 기록을 남김
+   * 다른 노드가 먼저 선점했거나 일정이 수정된 경우 null
+   *
+   * @param nextDueAt 반복 일정의 다음 발송 시각 (null이면 발송 완료 처리)
+   */
+  Schedule claimReminder(ObjectId scheduleId, Date dueAt, Date nextDueAt, Date occurrenceStart);
+
+  /**
+   * [start, end)에 시작하는 일정을 참여자별로 묶어 사용자 id 오름차순으로 스트리밍 (커서)
+   * timezones에 해당하는 사용자(null이면 시간대 미설정 포함)만 조회
+   * 사용자 id를 partitionCount개로 나눈 partition번째 조각만 조회하고, afterUserId 이후부터 이어서 조회
+   * 반드시 닫아야 함 (try-with-resources)
+   */
+  Stream<DailyDigestDto> streamDailyDigest(Date start, Date end, Collection<String> timezones,
+      int partition, int partitionCount, ObjectId afterUserId);
+}
@@ -0,0 +1,101 @@
+package com.weave.domain.schedule.repository;
+
+import com.weave.domain.schedule.dto.DailyDigestDto;
+import com.weave.domain.schedule.entity.Schedule;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleRepositoryCustomImpl implements ScheduleRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public List<Schedule> findDueReminders(Date now, int limit) {
+    Query query = new Query(Criteria.where("reminder_due_at").lte(now)
+        .and("reminder_sent").is(false))
+        .with(Sort.by(Sort.Direction.ASC, "reminder_due_at"))
+        .limit(limit);
+
+    return mongoTemplate.find(query, Schedule.class);
+  }
+
+  @Override
+  public Schedule claimReminder(ObjectId scheduleId, Date dueAt, Date nextDueAt,
+      Date occurrenceStart) {
+    Query query = new Query(Criteria.where("_id").is(scheduleId)
+        .and("reminder_due_at").is(dueAt)
+        .and("reminder_sent").is(false));
+
+    Update update = new Update()
+        .set("last_reminder_sent_for", occurrenceStart)
+        .set("updatedAt", new Date());
+    if (nextDueAt != null) {
+      update.set("reminder_due_at", nextDueAt);
+    } else {
+      update.set("reminder_sent", true);
+    }
+
+    return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+        Schedule.class);
+  }
+
+  @Override
+  public Stream<DailyDigestDto> streamDailyDigest(Date start, Date end,
+      Collection<String> timezones, int partition, int partitionCount, ObjectId afterUserId) {
+    List<AggregationOperation> stages = new ArrayList<>();
+    stages.add(context -> new Document("$match",
+        new Document("start_date", new Document("$gte", start).append("$lt", end))));
+    stages.add(context -> new Document("$project",
+        new Document("title", 1).append("participants", 1).append("start_date", 1)));
+    stages.add(context -> new Document("$unwind", "$participants"));
+    if (afterUserId != null) {
+      stages.add(context -> new Document("$match",
+          new Document("participants", new Document("$gt", afterUserId))));
+    }
+    if (partitionCount > 1) {
+      // ObjectId 생성 시각(초) 기준으로 파티션 분배
+      Document seconds = new Document("$floor", new Document("$divide", List.of(
+          new Document("$toLong", new Document("$toDate", "$participants")), 1000)));
+      stages.add(context -> new Document("$match", new Document("$expr",
+          new Document("$eq", List.of(new Document("$mod", List.of(seconds, partitionCount)),
+              partition)))));
+    }
+    stages.add(context -> new Document("$sort",
+        new Document("participants", 1).append("start_date", 1)));
+    stages.add(context -> new Document("$group", new Document("_id", "$participants")
+        .append("titles", new Document("$push", "$title"))
+        .append("count", new Document("$sum", 1))));
+    stages.add(context -> new Document("$sort", new Document("_id", 1)));
+    // 사용자 시간대 필터 (사용자별 _id 조회, 순서 유지)
+    stages.add(context -> new Document("$lookup", new Document("from", "users")
+        .append("localField", "_id")
+        .append("foreignField", "_id")
+        .append("as", "user")));
+    stages.add(context -> new Document("$match",
+        new Document("user.timezone", new Document("$in", new ArrayList<>(timezones)))));
+    stages.add(context -> new Document("$project", new Document("count", 1)
+        .append("titles", new Document("$slice", List.of("$titles", 3)))));
+
+    Aggregation aggregation = Aggregation.newAggregation(stages)
+        .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+    return mongoTemplate.aggregateStream(aggregation, "schedules", DailyDigestDto.class);
+  }
+}
@@ -1,301 +1,170 @@
 package com.weave.domain.schedule.scheduler;
 
+import com.weave.domain.schedule.entity.NotificationBatchCheckpoint;
 import com.weave.domain.schedule.entity.Schedule;
+import com.weave.domain.schedule.repository.NotificationBatchCheckpointRepository;
 import com.weave.domain.schedule.repository.ScheduleRepository;
+import com.weave.domain.schedule.service.DailyDigestBatchService;
 import com.weave.domain.schedule.service.NotificationService;
+import com.weave.domain.schedule.service.NotificationService.PushNotification;
+import com.weave.domain.schedule.service.NotificationTimezones;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService.Occurrence;
 import com.weave.domain.user.entity.User;
 import com.weave.domain.user.repository.UserRepository;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.bson.types.ObjectId;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 아침 알림 배치 (오늘의 일정, D-day)
+ * 사용자 시간대별로 현지 오전 6시에 실행해 발송량을 하루에 걸쳐 분산
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationScheduler {
 
-  private final ScheduleRepository scheduleRepository;
-  private final UserRepository userRepository;
-  private final NotificationService notificationService;
-
-  /**
-   * 매일 오전 6시에 오늘의 일정 알림 발송 - 모든 워크스페이스의 오늘 일정 조회 - 각 참여자에게 알림 발송
-   */
-  @Scheduled(cron = "0 0 6 * * *")
-  @SchedulerLock(name = "sendDailyScheduleNotification",
-      lockAtMostFor = "10m",
-      lockAtLeastFor = "1m")
-  public void sendDailyScheduleNotification() {
-    log.info("Starting daily schedule notification batch");
-
-    LocalDate today = LocalDate.now();
-    Date startOfDay = Date.from(today.atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant());
-
-    Calendar cal = Calendar.getInstance();
-    cal.setTime(startOfDay);
-    cal.add(Calendar.DAY_OF_MONTH, 1);
-    Date endOfDay = cal.getTime();
-
-    // 오늘 시작하는 모든 일정 조회 (모든 워크스페이스)
-    List<Schedule> todaySchedules = scheduleRepository.findSchedulesStartingToday(startOfDay,
-        endOfDay);
-
-    log.info("Found {} schedules for today", todaySchedules.size());
-
-    // 유저별로 일정을 그룹화하여 알림 발송
-    Map<ObjectId, List<Schedule>> schedulesByUser = groupSchedulesByUser(todaySchedules);
+  private static final int MORNING_HOUR = 6;
 
-    log.info("Sending notifications to {} users", schedulesByUser.size());
+  // 현지 오전 6시부터 이 시간 동안 중단된 배치를 이어서 처리
+  private static final int RESUME_HOURS = 2;
 
-    for (Map.Entry<ObjectId, List<Schedule>> entry : schedulesByUser.entrySet()) {
-      ObjectId userId = entry.getKey();
-      List<Schedule> userSchedules = entry.getValue();
+  private static final String DDAY_JOB_NAME = "dday";
+  private static final long DDAY_LEASE_MS = TimeUnit.MINUTES.toMillis(10);
 
-      User user = userRepository.findById(userId).orElse(null);
-      if (user == null) {
-        log.warn("User not found: {}", userId);
-        continue;
-      }
-
-      // 일정 알림 설정이 켜져있는 유저에게만 알림 발송
-      if (user.getPushEnabled()) {
-        sendScheduleNotification(user, userSchedules);
-      }
-    }
-
-    log.info("Completed daily schedule notification batch");
-  }
+  private final ScheduleRepository scheduleRepository;
+  private final UserRepository userRepository;
+  private final NotificationService notificationService;
+  private final ScheduleRecurrenceService scheduleRecurrenceService;
+  private final DailyDigestBatchService dailyDigestBatchService;
+  private final NotificationBatchCheckpointRepository checkpointRepository;
+  private final String owner = UUID.randomUUID().toString();
 
   /**
-   * 일정을 참여자별로 그룹화
+   * 5분마다 현지 시각이 오전 6~8시인 시간대의 알림 배치 실행
+   * 시간대·현지 날짜별 체크포인트로 하루 한 번만 발송하고, 중단된 배치는 다음 실행에서 이어서 처리
+   * (30분/45분 단위 시간대도 정각에 맞추기 위해 5분 주기)
    */
-  private Map<ObjectId, List<Schedule>> groupSchedulesByUser(List<Schedule> schedules) {
-    Map<ObjectId, List<Schedule>> schedulesByUser = new HashMap<>();
-
-    for (Schedule schedule : schedules) {
-      if (schedule.getParticipants() == null || schedule.getParticipants().isEmpty()) {
+  @Scheduled(cron = "0 */5 * * * *")
+  public void sendMorningNotifications() {
+    Instant now = Instant.now();
+    for (ZoneId zone : NotificationTimezones.zonesOf(userRepository.findDistinctTimezones())) {
+      ZonedDateTime local = now.atZone(zone);
+      if (local.getHour() < MORNING_HOUR || local.getHour() >= MORNING_HOUR + RESUME_HOURS) {
         continue;
       }
 
-      for (ObjectId userId : schedule.getParticipants()) {
-        schedulesByUser.computeIfAbsent(userId, k -> new ArrayList<>()).add(schedule);
+      LocalDate today = local.toLocalDate();
+      try {
+        dailyDigestBatchService.run(zone, today);
+        sendDdayNotification(zone, today);
+      } catch (Exception e) {
+        log.error("Morning notification batch failed for {} ({})", zone, today, e);
       }
     }
-
-    return schedulesByUser;
-  }
-
-
-  /**
-   * 일반 일정 알림 발송
-   */
-  private void sendScheduleNotification(User user, List<Schedule> schedules) {
-    String title = "오늘의 일정";
-    String body;
-
-    if (schedules.size() == 1) {
-      body = String.format("'%s' 일정이 오늘 있습니다.", schedules.getFirst().getTitle());
-    } else {
-      String scheduleTitles = schedules.stream()
-          .limit(3)
-          .map(Schedule::getTitle)
-          .collect(Collectors.joining(", "));
-
-      if (schedules.size() > 3) {
-        body = String.format("'%s' 외 %d개의 일정이 오늘 있습니다.",
-            scheduleTitles, schedules.size() - 3);
-      } else {
-        body = String.format("'%s' 일정이 오늘 있습니다.", scheduleTitles);
-      }
-    }
-
-    notificationService.sendPushNotification(user, title, body);
   }
 
   /**
-   * 매분 실행되는 일정 리마인더 알림 발송 - reminderMinutes가 설정된 일정 중, 시작 시간까지 reminderMinutes 남은 일정을 찾아 알림 발송 - 예:
-   * reminderMinutes가 30이면, 일정 시작 30분 전에 알림 발송
+   * 알림 대상 사용자 일괄 조회 (알림 켜짐 + FCM 토큰 보유 + 해당 시간대)
    */
-  @Scheduled(cron = "0 * * * * *")  // 매분 0초에 실행
-  @SchedulerLock(name = "sendScheduleReminderNotification",
-      lockAtMostFor = "1m",
-      lockAtLeastFor = "30s")
-  public void sendScheduleReminderNotification() {
-    log.debug("Starting schedule reminder notification check");
-
-    ZoneId seoulZone = ZoneId.of("Asia/Seoul");
-    LocalDateTime now = LocalDateTime.now(seoulZone);
-
-    // 현재 시간에서 1분 전부터 검색 (크론 실행 밀리초 오차 방지)
-    // 24시간 이후까지의 일정 조회
-    Date searchStart = Date.from(now.minusMinutes(1).atZone(seoulZone).toInstant());
-    Date searchEnd = Date.from(now.plusHours(24).atZone(seoulZone).toInstant());
-
-    List<Schedule> schedulesWithReminder = scheduleRepository.findSchedulesForReminder(searchStart,
-        searchEnd);
-
-    if (schedulesWithReminder.isEmpty()) {
-      log.debug("No schedules with reminder found");
-      return;
-    }
-
-    log.info("Found {} schedules with reminder settings", schedulesWithReminder.size());
-
-    for (Schedule schedule : schedulesWithReminder) {
-      if (schedule.getReminderMinutes() == null || schedule.getStartDate() == null) {
-        continue;
-      }
-
-      // 일정 시작 시간
-      Instant scheduleStart = schedule.getStartDate().toInstant();
-      LocalDateTime scheduleStartTime = LocalDateTime.ofInstant(scheduleStart, seoulZone);
-
-      // 알림 발송 시간 계산 (일정 시작 - reminderMinutes)
-      LocalDateTime reminderTime = scheduleStartTime.minusMinutes(schedule.getReminderMinutes());
-
-      // 현재 시간이 알림 발송 시간과 같은 분인지 확인 (초는 무시)
-      LocalDateTime nowTruncated = now.truncatedTo(ChronoUnit.MINUTES);
-      LocalDateTime reminderTruncated = reminderTime.truncatedTo(ChronoUnit.MINUTES);
-
-      if (nowTruncated.equals(reminderTruncated)) {
-        // 이미 이 일정 시작 시간에 대해 알림을 보냈는지 확인 (반복 일정 중복 방지)
-        if (schedule.getLastReminderSentFor() != null &&
-            schedule.getLastReminderSentFor().equals(schedule.getStartDate())) {
-          log.debug("Reminder already sent for schedule: {} at {}", schedule.getTitle(),
-              scheduleStartTime);
-          continue;
-        }
-
-        log.info("Sending reminder for schedule: {} (starts at {})", schedule.getTitle(),
-            scheduleStartTime);
-        sendReminderNotification(schedule);
-
-        // 알림 발송 완료 표시 (반복 일정을 위해 마지막 알림 시간도 저장)
-        schedule.setReminderSent(true);
-        schedule.setLastReminderSentFor(schedule.getStartDate());
-        scheduleRepository.save(schedule);
-      }
+  private List<User> loadPushTargets(Collection<ObjectId> userIds, ZoneId zone) {
+    if (userIds.isEmpty()) {
+      return List.of();
     }
-
-    log.debug("Completed schedule reminder notification check");
+    return userRepository.findAllById(userIds).stream()
+        .filter(user -> Boolean.TRUE.equals(user.getPushEnabled()))
+        .filter(user -> user.getFcmToken() != null && !user.getFcmToken().isEmpty())
+        .filter(user -> NotificationTimezones.belongsTo(user, zone))
+        .toList();
   }
 
   /**
-   * 리마인더 알림 발송
+   * D-day 알림 발송 (중요 일정) D-3, D-1, D-day에 알림 발송
+   * 남은 날짜는 zone의 현지 날짜 기준, 시간대·날짜별로 한 번만 발송 (중단되면 lease 만료 후 재발송)
    */
-  private void sendReminderNotification(Schedule schedule) {
-    if (schedule.getParticipants() == null || schedule.getParticipants().isEmpty()) {
+  private void sendDdayNotification(ZoneId zone, LocalDate today) {
+    String checkpointId = DDAY_JOB_NAME + ":" + zone.getId() + ":" + today;
+    NotificationBatchCheckpoint checkpoint = checkpointRepository.claim(checkpointId, owner,
+        new Date(System.currentTimeMillis() + DDAY_LEASE_MS));
+    if (checkpoint == null) {
       return;
     }
 
-    String title = "일정 알림";
-    String body;
-    int minutes = schedule.getReminderMinutes();
-
-    if (minutes == 0) {
-      body = String.format("'%s' 일정이 지금 시작됩니다.", schedule.getTitle());
-    } else if (minutes >= 1440) {
-      int days = minutes / 1440;
-      body = String.format("'%s' 일정이 %d일 후에 시작됩니다.", schedule.getTitle(), days);
-    } else if (minutes >= 60) {
-      int hours = minutes / 60;
-      body = String.format("'%s' 일정이 %d시간 후에 시작됩니다.", schedule.getTitle(), hours);
-    } else {
-      body = String.format("'%s' 일정이 %d분 후에 시작됩니다.", schedule.getTitle(), minutes);
-    }
-
-    for (ObjectId userId : schedule.getParticipants()) {
-      User user = userRepository.findById(userId).orElse(null);
-      if (user == null) {
-        log.warn("User not found for reminder: {}", userId);
-        continue;
-      }
-
-      if (user.getPushEnabled()) {
-        notificationService.sendPushNotification(user, title, body);
-        log.info("Sent reminder to user {} for schedule {}", user.getId(), schedule.getTitle());
-      }
-    }
-  }
-
-  /**
-   * 매일 오전 9시에 D-day 알림 발송 (중요 일정) D-3, D-1, D-day에 알림 발송
-   */
-  @Scheduled(cron = "0 0 6 * * *")
-  @SchedulerLock(name = "sendDdayNotification",
-      lockAtMostFor = "10m",
-      lockAtLeastFor = "1m")
-  public void sendDdayNotification() {
-    log.info("Starting D-day notification batch");
-
-    ZoneId seoulZone = ZoneId.of("Asia/Seoul");
-    LocalDate today = LocalDate.now(seoulZone);
+    log.info("Starting D-day notification batch for {}", zone);
 
     // 오늘부터 4일 후까지의 중요 일정 조회 (D-3 ~ D-day)
-    Date searchStart = Date.from(today.atStartOfDay(seoulZone).toInstant());
-    Date searchEnd = Date.from(today.plusDays(4).atStartOfDay(seoulZone).toInstant());
-
-    List<Schedule> importantSchedules = scheduleRepository.findImportantSchedules(searchStart,
-        searchEnd);
-
-    if (importantSchedules.isEmpty()) {
-      log.info("No important schedules found for D-day notification");
-      return;
-    }
-
-    log.info("Found {} important schedules", importantSchedules.size());
-
+    Date searchStart = Date.from(today.atStartOfDay(zone).toInstant());
+    Date searchEnd = Date.from(today.plusDays(4).atStartOfDay(zone).toInstant());
+
+    // 반복 일정은 원래 시작일 대신 다가오는 회차 기준으로 판단
+    List<Schedule> importantSchedules = new ArrayList<>(
+        scheduleRepository.findImportantSchedules(searchStart, searchEnd));
+    importantSchedules.removeIf(ScheduleRecurrenceService::isRecurring);
+    importantSchedules.addAll(scheduleRepository.findImportantRecurringSchedules(
+        ScheduleRecurrenceService.RECURRING_TYPES, searchEnd));
+
+    List<Schedule> dueSchedules = new ArrayList<>();
+    Map<ObjectId, Integer> daysUntilById = new HashMap<>();
     for (Schedule schedule : importantSchedules) {
       if (schedule.getStartDate() == null || schedule.getParticipants() == null) {
         continue;
       }
 
-      LocalDate scheduleDate = schedule.getStartDate().toInstant()
-          .atZone(seoulZone).toLocalDate();
-      long daysUntil = ChronoUnit.DAYS.between(today, scheduleDate);
-
-      // D-3, D-1, D-day만 알림
-      if (daysUntil != 3 && daysUntil != 1 && daysUntil != 0) {
+      Occurrence occurrence = scheduleRecurrenceService.nextOccurrence(schedule, searchStart);
+      if (occurrence == null || !occurrence.startDate().before(searchEnd)) {
         continue;
       }
 
-      // 이미 같은 D-day에 알림을 보냈는지 확인
-      Integer lastSent = schedule.getLastDdayNotificationSent();
-      if (lastSent != null && lastSent == (int) daysUntil) {
-        log.debug("D-day notification already sent for schedule: {} at D-{}",
-            schedule.getTitle(), daysUntil);
-        continue;
+      LocalDate scheduleDate = occurrence.startDate().toInstant().atZone(zone).toLocalDate();
+      long daysUntil = ChronoUnit.DAYS.between(today, scheduleDate);
+
+      // D-3, D-1, D-day만 알림
+      if (daysUntil == 3 || daysUntil == 1 || daysUntil == 0) {
+        dueSchedules.add(schedule);
+        daysUntilById.put(schedule.getId(), (int) daysUntil);
       }
+    }
 
-      sendDdayNotificationToParticipants(schedule, (int) daysUntil);
+    // 전체 참여자를 한 번에 조회해 해당 시간대 사용자에게만 일괄 발송
+    Set<ObjectId> participantIds = new HashSet<>();
+    dueSchedules.forEach(schedule -> participantIds.addAll(schedule.getParticipants()));
+    Map<ObjectId, User> users = new HashMap<>();
+    loadPushTargets(participantIds, zone).forEach(user -> users.put(user.getId(), user));
 
-      // 알림 발송 기록
-      schedule.setLastDdayNotificationSent((int) daysUntil);
-      scheduleRepository.save(schedule);
-    }
+    List<PushNotification> notifications = new ArrayList<>();
+    dueSchedules.forEach(schedule -> notifications.addAll(buildDdayNotifications(schedule,
+        daysUntilById.get(schedule.getId()), users)));
+    notificationService.sendPushNotifications(notifications);
 
-    log.info("Completed D-day notification batch");
+    checkpointRepository.complete(checkpointId, owner);
+    log.info("Completed D-day notification batch for {} ({} schedules)", zone,
+        dueSchedules.size());
   }
 
   /**
-   * D-day 알림 발송
+   * D-day 알림 생성
    */
-  private void sendDdayNotificationToParticipants(Schedule schedule, int daysUntil) {
+  private List<PushNotification> buildDdayNotifications(Schedule schedule, int daysUntil,
+      Map<ObjectId, User> users) {
     String title = "중요 일정 알림";
     String body;
 
@@ -305,18 +174,11 @@ public class NotificationScheduler {
       body = String.format("'%s' 일정이 %d일 남았습니다.", schedule.getTitle(), daysUntil);
     }
 
-    for (ObjectId userId : schedule.getParticipants()) {
-      User user = userRepository.findById(userId).orElse(null);
-      if (user == null) {
-        continue;
-      }
-
-      if (user.getPushEnabled()) {
-        notificationService.sendPushNotification(user, title, body);
-        log.info("Sent D-{} notification to user {} for schedule {}",
-            daysUntil, user.getId(), schedule.getTitle());
-      }
-    }
+    return schedule.getParticipants().stream()
+        .map(users::get)
+        .filter(Objects::nonNull)
+        .map(user -> new PushNotification(user, title, body, null))
+        .toList();
   }
 
 }
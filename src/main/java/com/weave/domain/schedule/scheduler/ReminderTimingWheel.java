@@ -0,0 +1,148 @@
+package com.weave.domain.schedule.scheduler;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.bson.types.ObjectId;
+
+/**
+ * 2단계 타이밍 휠 (분 단위 60칸 + 시간 단위 24칸)
+ * 현재 시간 안의 타이머는 분 휠, 그 이후는 시간 휠에 두었다가 해당 시간이 되면 분 휠로 내림
+ * 추가/취소/만료 처리 모두 타이머 수에 비례 (전체 스캔 없음)
+ */
+class ReminderTimingWheel {
+
+  static final int MINUTE_SLOTS = 60;
+  static final int HOUR_SLOTS = 24;
+
+  // 휠에 담을 수 있는 최대 범위 (현재 시간 슬롯과 겹치지 않도록 1시간 여유)
+  static final long MAX_SPAN_MINUTES = (long) (HOUR_SLOTS - 1) * MINUTE_SLOTS;
+
+  private final Set<ObjectId>[] minuteWheel = newSlots(MINUTE_SLOTS);
+  private final Set<ObjectId>[] hourWheel = newSlots(HOUR_SLOTS);
+
+  // 현재 분 이하로 추가된 타이머 (다음 advance에서 바로 만료)
+  private final Set<ObjectId> overdue = new HashSet<>();
+
+  // 타이머별 만료 분 (epoch minute)
+  private final Map<ObjectId, Long> dueMinutes = new HashMap<>();
+
+  // 마지막으로 처리한 분 (epoch minute)
+  private long currentMinute;
+
+  ReminderTimingWheel(long currentMinute) {
+    this.currentMinute = currentMinute;
+  }
+
+  /**
+   * 타이머 추가 (이미 있으면 만료 시각 변경)
+   *
+   * @return 휠 범위를 벗어나 추가하지 않은 경우 false
+   */
+  synchronized boolean add(ObjectId id, long dueMinute) {
+    remove(id);
+    if (dueMinute - currentMinute > MAX_SPAN_MINUTES) {
+      return false;
+    }
+
+    dueMinutes.put(id, dueMinute);
+    slotOf(dueMinute).add(id);
+    return true;
+  }
+
+  /**
+   * 타이머 취소
+   */
+  synchronized void remove(ObjectId id) {
+    Long dueMinute = dueMinutes.remove(id);
+    if (dueMinute != null) {
+      slotOf(dueMinute).remove(id);
+    }
+  }
+
+  /**
+   * toMinute까지 휠을 돌리고 만료된 타이머 반환
+   */
+  synchronized Set<ObjectId> advance(long toMinute) {
+    Set<ObjectId> expired = new HashSet<>(overdue);
+    overdue.forEach(dueMinutes::remove);
+    overdue.clear();
+
+    if (toMinute - currentMinute > MAX_SPAN_MINUTES) {
+      // 오래 멈춰 있었으면 슬롯을 돌지 않고 만료분만 골라낸 뒤 다시 배치
+      Iterator<Map.Entry<ObjectId, Long>> iterator = dueMinutes.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<ObjectId, Long> entry = iterator.next();
+        if (entry.getValue() <= toMinute) {
+          expired.add(entry.getKey());
+          iterator.remove();
+        }
+      }
+      currentMinute = toMinute;
+      rebuild();
+      return expired;
+    }
+
+    while (currentMinute < toMinute) {
+      currentMinute++;
+      if (currentMinute % MINUTE_SLOTS == 0) {
+        cascade(currentMinute / MINUTE_SLOTS);
+      }
+
+      Set<ObjectId> slot = minuteWheel[(int) (currentMinute % MINUTE_SLOTS)];
+      for (ObjectId id : slot) {
+        dueMinutes.remove(id);
+        expired.add(id);
+      }
+      slot.clear();
+    }
+    return expired;
+  }
+
+  synchronized int size() {
+    return dueMinutes.size();
+  }
+
+  /**
+   * 시간 휠의 해당 시간 슬롯을 분 휠로 내림
+   */
+  private void cascade(long hour) {
+    Set<ObjectId> slot = hourWheel[(int) (hour % HOUR_SLOTS)];
+    for (ObjectId id : slot) {
+      minuteWheel[(int) (dueMinutes.get(id) % MINUTE_SLOTS)].add(id);
+    }
+    slot.clear();
+  }
+
+  private void rebuild() {
+    for (Set<ObjectId> slot : minuteWheel) {
+      slot.clear();
+    }
+    for (Set<ObjectId> slot : hourWheel) {
+      slot.clear();
+    }
+    dueMinutes.forEach((id, dueMinute) -> slotOf(dueMinute).add(id));
+  }
+
+  private Set<ObjectId> slotOf(long dueMinute) {
+    if (dueMinute <= currentMinute) {
+      return overdue;
+    }
+    // 현재 시간 안의 타이머만 분 휠에 두고, 다음 시간부터는 시간 휠에서 대기
+    if (dueMinute / MINUTE_SLOTS == currentMinute / MINUTE_SLOTS) {
+      return minuteWheel[(int) (dueMinute % MINUTE_SLOTS)];
+    }
+    return hourWheel[(int) ((dueMinute / MINUTE_SLOTS) % HOUR_SLOTS)];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<ObjectId>[] newSlots(int size) {
+    Set<ObjectId>[] slots = new Set[size];
+    for (int i = 0; i < size; i++) {
+      slots[i] = new HashSet<>();
+    }
+    return slots;
+  }
+}
@@ -0,0 +1,290 @@
+package com.weave.domain.schedule.scheduler;
+
+import com.weave.domain.schedule.entity.Schedule;
+import com.weave.domain.schedule.repository.ScheduleRepository;
+import com.weave.domain.schedule.service.NotificationService;
+import com.weave.domain.schedule.service.NotificationService.PushNotification;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService.Occurrence;
+import com.weave.domain.user.entity.User;
+import com.weave.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 리마인더 발송 (타이밍 휠)
+ * - reminder_due_at 인덱스로 horizon-minutes 이내 알림만 휠에 적재하고, 매분 적재 구간만큼만 추가 조회
+ * - 일정 생성/수정/삭제 시 타이머 추가/취소, 다른 노드의 변경은 updatedAt 이후 변경분만 조회해 반영
+ * - 타이머가 만료되면 { reminder_due_at: { $lte: now } }를 발송 시각 순으로 읽고 findAndModify로 선점한 건만 발송
+ *   (여러 노드가 동시에 돌아도 한 번만 발송, 반복 일정은 선점 시 다음 회차 발송 시각으로 이동)
+ */
+@Slf4j
+@Component
+public class ScheduleReminderDispatcher {
+
+  // 다른 노드와의 시계 오차 및 저장 지연 여유
+  private static final long SYNC_SKEW_MS = TimeUnit.SECONDS.toMillis(5);
+  private static final int CLAIM_BATCH_SIZE = 200;
+
+  private final ScheduleRepository scheduleRepository;
+  private final UserRepository userRepository;
+  private final NotificationService notificationService;
+  private final ScheduleRecurrenceService scheduleRecurrenceService;
+  private final long horizonMs;
+  private final long maxLatenessMs;
+  private final ReminderTimingWheel wheel;
+  private final Counter sentCounter;
+  private final Counter skippedCounter;
+
+  // 이 시각까지의 알림은 휠에 적재 완료 (null이면 아직 초기 적재 전)
+  private volatile Date loadedUntil;
+
+  // 마지막으로 변경분을 반영한 시각
+  private volatile Date lastSync;
+
+  public ScheduleReminderDispatcher(
+      ScheduleRepository scheduleRepository,
+      UserRepository userRepository,
+      NotificationService notificationService,
+      ScheduleRecurrenceService scheduleRecurrenceService,
+      MeterRegistry meterRegistry,
+      @Value("${schedule.reminder.horizon-minutes:360}") long horizonMinutes,
+      @Value("${schedule.reminder.max-lateness-minutes:10}") long maxLatenessMinutes) {
+    this.scheduleRepository = scheduleRepository;
+    this.userRepository = userRepository;
+    this.notificationService = notificationService;
+    this.scheduleRecurrenceService = scheduleRecurrenceService;
+    this.horizonMs = TimeUnit.MINUTES.toMillis(
+        Math.min(horizonMinutes, ReminderTimingWheel.MAX_SPAN_MINUTES));
+    this.maxLatenessMs = TimeUnit.MINUTES.toMillis(maxLatenessMinutes);
+    this.wheel = new ReminderTimingWheel(epochMinute(System.currentTimeMillis()));
+    this.sentCounter = meterRegistry.counter("schedule.reminder.claimed", "result", "sent");
+    this.skippedCounter = meterRegistry.counter("schedule.reminder.claimed", "result", "late");
+    Gauge.builder("schedule.reminder.timers", wheel, ReminderTimingWheel::size)
+        .description("Schedule reminder timers held in the timing wheel")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 일정 생성/수정 시 알림 발송 시각 갱신
+   * 아직 지나지 않은 첫 회차의 발송 시각을 저장하고, 보낼 회차가 없으면 발송 완료로 표시
+   */
+  public void applyReminderDue(Schedule schedule) {
+    Date dueAt = nextDueAt(schedule, System.currentTimeMillis());
+    schedule.setReminderDueAt(dueAt);
+    schedule.setReminderSent(dueAt == null);
+  }
+
+  /**
+   * 발송 시각이 minDueMillis 이상인 첫 회차의 발송 시각 (회차 시작 - reminderMinutes)
+   */
+  private Date nextDueAt(Schedule schedule, long minDueMillis) {
+    if (schedule.getReminderMinutes() == null || schedule.getStartDate() == null) {
+      return null;
+    }
+
+    long reminderMs = TimeUnit.MINUTES.toMillis(schedule.getReminderMinutes());
+    Occurrence occurrence = scheduleRecurrenceService.nextOccurrence(schedule,
+        new Date(minDueMillis + reminderMs));
+    return occurrence != null
+        ? new Date(occurrence.startDate().getTime() - reminderMs)
+        : null;
+  }
+
+  /**
+   * 기동 시 기존 일정의 발송 시각 보정 후 휠 초기 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    try {
+      List<Schedule> missing = scheduleRepository.findReminderDueAtMissing();
+      if (!missing.isEmpty()) {
+        missing.forEach(this::applyReminderDue);
+        scheduleRepository.saveAll(missing);
+        log.info("Backfilled reminder due time for {} schedules", missing.size());
+      }
+    } catch (Exception e) {
+      log.error("Failed to backfill schedule reminder due time", e);
+    }
+
+    long now = System.currentTimeMillis();
+    lastSync = new Date(now);
+    Date until = new Date(now + horizonMs);
+    // 직전 1분은 크론 실행 오차를 고려해 포함
+    load(new Date(now - TimeUnit.MINUTES.toMillis(1)), until);
+    loadedUntil = until;
+    log.info("Loaded {} schedule reminder timers", wheel.size());
+  }
+
+  /**
+   * 일정 생성/수정 시 타이머 반영
+   */
+  public void schedule(Schedule schedule) {
+    Date until = loadedUntil;
+    Date dueAt = schedule.getReminderDueAt();
+    if (dueAt == null || Boolean.TRUE.equals(schedule.getReminderSent())
+        || until == null || dueAt.after(until)
+        || dueAt.getTime() < System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1)) {
+      // 이미 지난 알림은 발송하지 않고, 적재 구간 밖이면 이후 구간 적재 때 조회됨
+      wheel.remove(schedule.getId());
+      return;
+    }
+    wheel.add(schedule.getId(), epochMinute(dueAt.getTime()));
+  }
+
+  /**
+   * 일정 삭제 시 타이머 취소
+   */
+  public void cancel(ObjectId scheduleId) {
+    wheel.remove(scheduleId);
+  }
+
+  /**
+   * 매분 휠을 돌려 만료된 타이머가 있을 때만 발송 대상 조회
+   * 발송 시각 순으로 선점하고, max-lateness-minutes보다 늦은 알림(서버 중단 등)은 발송 없이 다음 회차로 넘김
+   */
+  @Scheduled(cron = "0 * * * * *")  // 매분 0초에 실행
+  public void dispatch() {
+    if (loadedUntil == null) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    syncChanges(now);
+
+    // 새로 horizon 안에 들어온 구간만 적재
+    Date until = new Date(now + horizonMs);
+    if (until.after(loadedUntil)) {
+      load(loadedUntil, until);
+      loadedUntil = until;
+    }
+
+    Set<ObjectId> expired = wheel.advance(epochMinute(now));
+    if (expired.isEmpty()) {
+      return;
+    }
+
+    log.debug("{} schedule reminder timers expired", expired.size());
+    List<Schedule> due;
+    do {
+      due = scheduleRepository.findDueReminders(new Date(now), CLAIM_BATCH_SIZE);
+      sendReminderNotifications(due.stream()
+          .filter(schedule -> claim(schedule, now))
+          .toList());
+    } while (due.size() == CLAIM_BATCH_SIZE);
+  }
+
+  /**
+   * 알림 선점 (발송 대상이면 true)
+   */
+  boolean claim(Schedule schedule, long now) {
+    Date dueAt = schedule.getReminderDueAt();
+    int minutes = schedule.getReminderMinutes() != null ? schedule.getReminderMinutes() : 0;
+    Date occurrenceStart = new Date(dueAt.getTime() + TimeUnit.MINUTES.toMillis(minutes));
+    Date nextDueAt = nextDueAt(schedule, Math.max(now, dueAt.getTime()) + 1);
+
+    Schedule claimed = scheduleRepository.claimReminder(schedule.getId(), dueAt, nextDueAt,
+        occurrenceStart);
+    if (claimed == null) {
+      // 다른 노드가 먼저 선점했거나 그사이 일정이 수정됨
+      return false;
+    }
+    schedule(claimed);
+
+    if (now - dueAt.getTime() > maxLatenessMs) {
+      skippedCounter.increment();
+      log.warn("Skipping late reminder for schedule {} (due at {})", schedule.getId(), dueAt);
+      return false;
+    }
+
+    log.info("Sending reminder for schedule: {} (starts at {})", schedule.getTitle(),
+        occurrenceStart);
+    sentCounter.increment();
+    return true;
+  }
+
+  /**
+   * 다른 노드에서 변경된 일정 반영 (삭제는 발송 직전 확인으로 걸러짐)
+   */
+  private void syncChanges(long now) {
+    List<Schedule> changed = scheduleRepository.findUpdatedAfter(
+        new Date(lastSync.getTime() - SYNC_SKEW_MS));
+    lastSync = new Date(now);
+    changed.forEach(this::schedule);
+  }
+
+  private void load(Date after, Date until) {
+    for (Schedule schedule : scheduleRepository.findReminderDueBetween(after, until)) {
+      wheel.add(schedule.getId(), epochMinute(schedule.getReminderDueAt().getTime()));
+    }
+  }
+
+  /**
+   * 리마인더 알림 일괄 발송 (선점한 일정들의 참여자를 한 번에 조회)
+   */
+  private void sendReminderNotifications(List<Schedule> schedules) {
+    Set<ObjectId> participantIds = new HashSet<>();
+    schedules.stream()
+        .filter(schedule -> schedule.getParticipants() != null)
+        .forEach(schedule -> participantIds.addAll(schedule.getParticipants()));
+    if (participantIds.isEmpty()) {
+      return;
+    }
+
+    Map<ObjectId, User> users = new HashMap<>();
+    for (User user : userRepository.findAllById(participantIds)) {
+      if (Boolean.TRUE.equals(user.getPushEnabled())) {
+        users.put(user.getId(), user);
+      }
+    }
+
+    List<PushNotification> notifications = new ArrayList<>();
+    for (Schedule schedule : schedules) {
+      if (schedule.getParticipants() == null) {
+        continue;
+      }
+      String body = reminderBody(schedule);
+      schedule.getParticipants().stream()
+          .map(users::get)
+          .filter(Objects::nonNull)
+          .forEach(user -> notifications.add(new PushNotification(user, "일정 알림", body, null)));
+    }
+    notificationService.sendPushNotifications(notifications);
+  }
+
+  private String reminderBody(Schedule schedule) {
+    int minutes = schedule.getReminderMinutes() != null ? schedule.getReminderMinutes() : 0;
+
+    if (minutes == 0) {
+      return String.format("'%s' 일정이 지금 시작됩니다.", schedule.getTitle());
+    } else if (minutes >= 1440) {
+      int days = minutes / 1440;
+      return String.format("'%s' 일정이 %d일 후에 시작됩니다.", schedule.getTitle(), days);
+    } else if (minutes >= 60) {
+      int hours = minutes / 60;
+      return String.format("'%s' 일정이 %d시간 후에 시작됩니다.", schedule.getTitle(), hours);
+    }
+    return String.format("'%s' 일정이 %d분 후에 시작됩니다.", schedule.getTitle(), minutes);
+  }
+
+  private static long epochMinute(long epochMillis) {
+    return TimeUnit.MILLISECONDS.toMinutes(epochMillis);
+  }
+}
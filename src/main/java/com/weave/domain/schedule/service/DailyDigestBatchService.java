@@ -0,0 +1,202 @@
+package com.weave.domain.schedule.service;
+
+import com.weave.domain.schedule.dto.DailyDigestDto;
+import com.weave.domain.schedule.entity.NotificationBatchCheckpoint;
+import com.weave.domain.schedule.entity.NotificationBatchChunk;
+import com.weave.domain.schedule.repository.NotificationBatchCheckpointRepository;
+import com.weave.domain.schedule.repository.NotificationBatchChunkRepository;
+import com.weave.domain.schedule.repository.ScheduleRepository;
+import com.weave.domain.schedule.service.NotificationService.PushNotification;
+import com.weave.domain.user.entity.User;
+import com.weave.domain.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 오늘의 일정 알림 배치 (시간대별로 현지 날짜 기준 실행)
+ * - 참여자별로 묶은 집계 결과를 커서로 스트리밍하며 chunk-size명 단위로 발송 (메모리 사용량은 청크 크기로 고정)
+ * - 사용자 id를 partitions개로 나눠 노드마다 선점한 파티션만 처리 (여러 노드가 나눠서 병렬 처리)
+ * - 청크마다 체크포인트를 전진시켜 노드가 중단되면 lease 만료 후 다른 노드가 이어서 처리
+ * - 청크 발송 전 마커를 남겨 재시작 시 같은 청크를 다시 보내지 않음
+ */
+@Slf4j
+@Service
+public class DailyDigestBatchService {
+
+  private static final String JOB_NAME = "daily-digest";
+
+  private final ScheduleRepository scheduleRepository;
+  private final UserRepository userRepository;
+  private final NotificationService notificationService;
+  private final NotificationBatchCheckpointRepository checkpointRepository;
+  private final NotificationBatchChunkRepository chunkRepository;
+  private final int partitions;
+  private final int chunkSize;
+  private final long leaseMs;
+  private final String owner = UUID.randomUUID().toString();
+
+  // 같은 노드에서 정시 실행과 재개 실행이 겹치지 않도록 함 (같은 owner라 선점으로 걸러지지 않음)
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  public DailyDigestBatchService(
+      ScheduleRepository scheduleRepository,
+      UserRepository userRepository,
+      NotificationService notificationService,
+      NotificationBatchCheckpointRepository checkpointRepository,
+      NotificationBatchChunkRepository chunkRepository,
+      @Value("${schedule.daily-digest.partitions:8}") int partitions,
+      @Value("${schedule.daily-digest.chunk-size:500}") int chunkSize,
+      @Value("${schedule.daily-digest.lease-seconds:120}") long leaseSeconds) {
+    this.scheduleRepository = scheduleRepository;
+    this.userRepository = userRepository;
+    this.notificationService = notificationService;
+    this.checkpointRepository = checkpointRepository;
+    this.chunkRepository = chunkRepository;
+    this.partitions = Math.max(1, partitions);
+    this.chunkSize = Math.max(1, chunkSize);
+    this.leaseMs = TimeUnit.SECONDS.toMillis(leaseSeconds);
+  }
+
+  /**
+   * zone 사용자에게 현지 날짜 date에 시작하는 일정 알림 발송 (선점 가능한 파티션을 모두 처리)
+   * 이미 완료됐거나 다른 노드가 처리 중인 파티션은 건너뜀
+   */
+  public void run(ZoneId zone, LocalDate date) {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      runPartitions(zone, date);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private void runPartitions(ZoneId zone, LocalDate date) {
+    Date start = Date.from(date.atStartOfDay(zone).toInstant());
+    Date end = Date.from(date.plusDays(1).atStartOfDay(zone).toInstant());
+    List<String> timezones = NotificationTimezones.storedValues(zone);
+
+    // 노드마다 다른 순서로 파티션을 돌아 선점 경합을 줄임
+    List<Integer> order = new ArrayList<>(IntStream.range(0, partitions).boxed().toList());
+    Collections.shuffle(order);
+
+    for (int partition : order) {
+      String checkpointId = JOB_NAME + ":" + zone.getId() + ":" + date + ":" + partition;
+      NotificationBatchCheckpoint checkpoint = checkpointRepository.claim(checkpointId, owner,
+          leaseUntil());
+      if (checkpoint == null) {
+        continue;
+      }
+
+      try {
+        runPartition(checkpoint, start, end, timezones, partition);
+      } catch (Exception e) {
+        // 체크포인트는 남아 있으므로 lease 만료 후 이어서 처리
+        log.error("Daily digest partition {} failed at user {}", checkpointId,
+            checkpoint.getLastUserId(), e);
+      }
+    }
+  }
+
+  private void runPartition(NotificationBatchCheckpoint checkpoint, Date start, Date end,
+      List<String> timezones, int partition) {
+    String checkpointId = checkpoint.getId();
+    if (checkpoint.getLastUserId() != null) {
+      log.info("Resuming daily digest partition {} after user {}", checkpointId,
+          checkpoint.getLastUserId());
+    }
+
+    int processed = 0;
+    try (Stream<DailyDigestDto> stream = scheduleRepository.streamDailyDigest(start, end,
+        timezones, partition, partitions, checkpoint.getLastUserId())) {
+      Iterator<DailyDigestDto> iterator = stream.iterator();
+      List<DailyDigestDto> chunk = new ArrayList<>(chunkSize);
+
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() == chunkSize || !iterator.hasNext()) {
+          if (!processChunk(checkpointId, chunk)) {
+            log.warn("Lost lease on daily digest partition {}", checkpointId);
+            return;
+          }
+          processed += chunk.size();
+          chunk.clear();
+        }
+      }
+    }
+
+    checkpointRepository.complete(checkpointId, owner);
+    log.info("Completed daily digest partition {} ({} users)", checkpointId, processed);
+  }
+
+  /**
+   * 청크 발송 후 체크포인트 전진 (선점을 잃었으면 false)
+   */
+  private boolean processChunk(String checkpointId, List<DailyDigestDto> chunk) {
+    ObjectId firstUserId = chunk.getFirst().getUserId();
+    ObjectId lastUserId = chunk.getLast().getUserId();
+
+    try {
+      chunkRepository.insert(NotificationBatchChunk.builder()
+          .id(checkpointId + ":" + firstUserId.toHexString())
+          .size(chunk.size())
+          .createdAt(new Date())
+          .build());
+      sendChunk(chunk);
+    } catch (DuplicateKeyException e) {
+      // 이전 실행에서 발송했지만 체크포인트를 남기기 전에 중단된 청크
+      log.info("Daily digest chunk starting at {} already sent, skipping", firstUserId);
+    }
+
+    return checkpointRepository.advance(checkpointId, owner, lastUserId, chunk.size(),
+        leaseUntil());
+  }
+
+  private void sendChunk(List<DailyDigestDto> chunk) {
+    Map<ObjectId, DailyDigestDto> digests = chunk.stream()
+        .collect(Collectors.toMap(DailyDigestDto::getUserId, Function.identity()));
+
+    List<PushNotification> notifications = new ArrayList<>();
+    for (User user : userRepository.findAllById(digests.keySet())) {
+      if (!Boolean.TRUE.equals(user.getPushEnabled())
+          || user.getFcmToken() == null || user.getFcmToken().isEmpty()) {
+        continue;
+      }
+      notifications.add(new PushNotification(user, "오늘의 일정",
+          digestBody(digests.get(user.getId())), null));
+    }
+    notificationService.sendPushNotifications(notifications);
+  }
+
+  private String digestBody(DailyDigestDto digest) {
+    String scheduleTitles = String.join(", ", digest.getTitles());
+    if (digest.getCount() > 3) {
+      return String.format("'%s' 외 %d개의 일정이 오늘 있습니다.",
+          scheduleTitles, digest.getCount() - 3);
+    }
+    return String.format("'%s' 일정이 오늘 있습니다.", scheduleTitles);
+  }
+
+  private Date leaseUntil() {
+    return new Date(System.currentTimeMillis() + leaseMs);
+  }
+}
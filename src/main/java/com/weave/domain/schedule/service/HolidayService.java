@@ -42,7 +42,7 @@ public class HolidayService {
   public void onStartup() {
     log.info("HolidayService has been initialized.");
     try {
-      int currentYear = LocalDate.now().getYear();
+      int currentYear = LocalDate.now(ScheduleRecurrenceService.SEOUL_ZONE).getYear();
       List<Integer> yearsToFetch = ImmutableList.of(currentYear - 1, currentYear, currentYear + 1);
 
       yearsToFetch.forEach(this::fetchAndCacheYearData);
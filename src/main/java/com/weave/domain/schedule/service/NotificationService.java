@@ -1,31 +1,123 @@
 package com.weave.domain.schedule.service;
 
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.firebase.messaging.ApnsConfig;
 import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import com.weave.domain.user.entity.User;
+import com.weave.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * FCM 푸시 알림 발송 파이프라인
+ * - 호출자는 큐에 넣고 바로 반환, flush-interval-ms마다 최대 500건씩 묶어 sendEachAsync로 발송
+ * - 동시에 전송 중인 배치는 max-in-flight-batches개로 제한
+ * - 일시적 오류(UNAVAILABLE/INTERNAL/QUOTA_EXCEEDED)는 지수 백오프로 max-retries회까지 재시도
+ * - UNREGISTERED 응답을 받은 토큰은 사용자 정보에서 삭제
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
+  // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+  private static final int FCM_BATCH_SIZE = 500;
+
+  private static final long MAX_RETRY_BACKOFF_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+      MessagingErrorCode.UNAVAILABLE,
+      MessagingErrorCode.INTERNAL,
+      MessagingErrorCode.QUOTA_EXCEEDED);
+
+  private final UserRepository userRepository;
+  private final Executor notificationExecutor;
+  private final BlockingQueue<Delivery> queue;
+  private final DelayQueue<Delivery> retryQueue = new DelayQueue<>();
+  private final Semaphore inFlightBatches;
+  private final int maxRetries;
+  private final long retryBackoffMs;
+  private final long enqueueTimeoutMs;
+  private final Timer latencyTimer;
+  private final Counter successCounter;
+  private final Counter failureCounter;
+  private final Counter retryCounter;
+  private final Counter unregisteredCounter;
+  private final Counter droppedCounter;
+
+  public NotificationService(
+      UserRepository userRepository,
+      @Qualifier("notificationExecutor") Executor notificationExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${notification.fcm.queue-capacity:20000}") int queueCapacity,
+      @Value("${notification.fcm.max-in-flight-batches:4}") int maxInFlightBatches,
+      @Value("${notification.fcm.max-retries:3}") int maxRetries,
+      @Value("${notification.fcm.retry-backoff-ms:1000}") long retryBackoffMs,
+      @Value("${notification.fcm.enqueue-timeout-ms:5000}") long enqueueTimeoutMs) {
+    this.userRepository = userRepository;
+    this.notificationExecutor = notificationExecutor;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    this.inFlightBatches = new Semaphore(Math.max(1, maxInFlightBatches));
+    this.maxRetries = maxRetries;
+    this.retryBackoffMs = retryBackoffMs;
+    this.enqueueTimeoutMs = enqueueTimeoutMs;
+    this.latencyTimer = Timer.builder("notification.fcm.latency")
+        .description("Time from enqueue to successful FCM delivery")
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+    this.successCounter = meterRegistry.counter("notification.fcm.messages", "result", "success");
+    this.failureCounter = meterRegistry.counter("notification.fcm.messages", "result", "failure");
+    this.retryCounter = meterRegistry.counter("notification.fcm.messages", "result", "retry");
+    this.unregisteredCounter = meterRegistry.counter("notification.fcm.messages",
+        "result", "unregistered");
+    this.droppedCounter = meterRegistry.counter("notification.fcm.messages", "result", "dropped");
+    Gauge.builder("notification.fcm.queue.size", queue, BlockingQueue::size)
+        .description("Push notifications waiting to be sent")
+        .register(meterRegistry);
+    Gauge.builder("notification.fcm.retry.size", retryQueue, DelayQueue::size)
+        .description("Push notifications waiting for a retry")
+        .register(meterRegistry);
+  }
+
   /**
-   * 기본 푸시 알림 전송
+   * 기본 푸시 알림 전송 (큐에 넣고 바로 반환)
    */
   public void sendPushNotification(User user, String title, String body) {
     sendPushNotificationWithData(user, title, body, null);
   }
 
   /**
-   * 데이터가 포함된 푸시 알림 전송
+   * 데이터가 포함된 푸시 알림 전송 (큐에 넣고 바로 반환, 큐가 가득 차면 버림)
    */
   public void sendPushNotificationWithData(User user, String title, String body, Map<String, String> data) {
     if (user.getFcmToken() == null || user.getFcmToken().isEmpty()) {
@@ -33,33 +125,267 @@ public class NotificationService {
       return;
     }
 
-    if (!user.getPushEnabled()) {
+    if (!Boolean.TRUE.equals(user.getPushEnabled())) {
       log.info("User {} has disabled push notifications", user.getId());
       return;
     }
 
+    offer(user, title, body, data);
+  }
+
+  /**
+   * 여러 사용자에게 같은 내용의 푸시 알림 일괄 전송
+   *
+   * @return 큐에 넣은 건수
+   */
+  public int sendPushNotifications(Collection<User> users, String title, String body) {
+    return sendPushNotifications(users, title, body, null);
+  }
+
+  /**
+   * 여러 사용자에게 같은 내용(데이터 포함)의 푸시 알림 일괄 전송 (요청 처리 경로용)
+   * 알림 꺼짐/토큰 없는 사용자는 제외하고, 큐가 가득 차면 기다리지 않고 버림
+   *
+   * @return 큐에 넣은 건수
+   */
+  public int sendPushNotifications(Collection<User> users, String title, String body,
+      Map<String, String> data) {
+    int enqueued = 0;
+    for (User user : users) {
+      if (user.getFcmToken() == null || user.getFcmToken().isEmpty()
+          || !Boolean.TRUE.equals(user.getPushEnabled())) {
+        continue;
+      }
+      if (offer(user, title, body, data)) {
+        enqueued++;
+      }
+    }
+    return enqueued;
+  }
+
+  /**
+   * 푸시 알림 일괄 전송 (배치 작업용)
+   * 알림 꺼짐/토큰 없는 사용자는 제외하고 큐에 넣음
+   * 큐가 가득 차면 enqueue-timeout-ms까지 기다려 발송 속도에 맞추고, 그래도 자리가 없으면 버림
+   *
+   * @return 큐에 넣은 건수
+   */
+  public int sendPushNotifications(List<PushNotification> notifications) {
+    int enqueued = 0;
+    for (PushNotification notification : notifications) {
+      User user = notification.user();
+      if (user.getFcmToken() == null || user.getFcmToken().isEmpty()
+          || !Boolean.TRUE.equals(user.getPushEnabled())) {
+        continue;
+      }
+
+      try {
+        if (!queue.offer(newDelivery(user, notification.title(), notification.body(),
+            notification.data()), enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+          droppedCounter.increment();
+          continue;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      enqueued++;
+    }
+
+    if (enqueued < notifications.size()) {
+      log.debug("Enqueued {}/{} push notifications", enqueued, notifications.size());
+    }
+    return enqueued;
+  }
+
+  // 큐가 가득 차면 버림 (요청 스레드를 막지 않음)
+  private boolean offer(User user, String title, String body, Map<String, String> data) {
+    if (queue.offer(newDelivery(user, title, body, data))) {
+      return true;
+    }
+    droppedCounter.increment();
+    log.warn("Push notification queue is full, dropping message to user {}", user.getId());
+    return false;
+  }
+
+  /**
+   * 대기 중인 알림을 배치로 묶어 비동기 발송 (재시도 시각이 된 알림 우선)
+   */
+  @Scheduled(fixedDelayString = "${notification.fcm.flush-interval-ms:100}")
+  public void flush() {
+    while (inFlightBatches.tryAcquire()) {
+      List<Delivery> batch = new ArrayList<>(FCM_BATCH_SIZE);
+      retryQueue.drainTo(batch, FCM_BATCH_SIZE);
+      queue.drainTo(batch, FCM_BATCH_SIZE - batch.size());
+      if (batch.isEmpty()) {
+        inFlightBatches.release();
+        return;
+      }
+      sendBatch(batch);
+    }
+  }
+
+  private void sendBatch(List<Delivery> batch) {
+    List<Message> messages = batch.stream().map(Delivery::message).toList();
     try {
-      Message.Builder messageBuilder = Message.builder()
-          .setToken(user.getFcmToken())
-          .setNotification(Notification.builder()
-              .setTitle(title)
-              .setBody(body)
-              .build())
-          .setApnsConfig(ApnsConfig.builder()
-              .setAps(Aps.builder()
-                  .setSound("default")
-                  .build())
-              .build());
-
-      // 데이터가 있으면 추가
-      if (data != null && !data.isEmpty()) {
-        messageBuilder.putAllData(data);
+      ApiFutures.addCallback(FirebaseMessaging.getInstance().sendEachAsync(messages),
+          new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(BatchResponse response) {
+              try {
+                handleResponse(batch, response);
+              } finally {
+                inFlightBatches.release();
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              try {
+                log.error("Failed to send message batch of {}: {}", batch.size(), t.getMessage());
+                batch.forEach(delivery -> handleFailure(delivery, errorCodeOf(t)));
+              } finally {
+                inFlightBatches.release();
+              }
+            }
+          }, notificationExecutor);
+    } catch (RuntimeException e) {
+      // Firebase 미초기화 등 발송 자체가 불가능한 경우
+      inFlightBatches.release();
+      failureCounter.increment(batch.size());
+      log.error("Unable to send message batch of {}: {}", batch.size(), e.getMessage());
+    }
+  }
+
+  private void handleResponse(List<Delivery> batch, BatchResponse response) {
+    List<SendResponse> responses = response.getResponses();
+    for (int i = 0; i < batch.size(); i++) {
+      Delivery delivery = batch.get(i);
+      SendResponse sendResponse = responses.get(i);
+      if (sendResponse.isSuccessful()) {
+        successCounter.increment();
+        latencyTimer.record(System.currentTimeMillis() - delivery.enqueuedAt(),
+            TimeUnit.MILLISECONDS);
+      } else {
+        handleFailure(delivery, sendResponse.getException().getMessagingErrorCode());
       }
+    }
+
+    if (response.getFailureCount() > 0) {
+      log.warn("Failed to send {} of {} messages in batch", response.getFailureCount(),
+          batch.size());
+    }
+  }
+
+  private void handleFailure(Delivery delivery, MessagingErrorCode errorCode) {
+    if (errorCode == MessagingErrorCode.UNREGISTERED) {
+      unregisteredCounter.increment();
+      try {
+        userRepository.clearFcmToken(delivery.userId(), delivery.token());
+        log.info("Cleared unregistered FCM token of user {}", delivery.userId());
+      } catch (Exception e) {
+        log.warn("Failed to clear FCM token of user {}: {}", delivery.userId(), e.getMessage());
+      }
+      return;
+    }
+
+    boolean retryable = errorCode == null || RETRYABLE_ERRORS.contains(errorCode);
+    if (retryable && delivery.attempt() < maxRetries) {
+      retryCounter.increment();
+      retryQueue.add(delivery.retry(retryDelayMs(delivery.attempt())));
+      return;
+    }
+
+    failureCounter.increment();
+    log.debug("Giving up push notification to user {} ({})", delivery.userId(), errorCode);
+  }
+
+  /**
+   * 재시도 대기 시간 (지수 백오프 + 최대 20% 지터)
+   */
+  private long retryDelayMs(int attempt) {
+    long delay = Math.min(MAX_RETRY_BACKOFF_MS, retryBackoffMs << Math.min(attempt, 16));
+    return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+  }
+
+  private MessagingErrorCode errorCodeOf(Throwable t) {
+    Throwable cause = t;
+    while (cause != null) {
+      if (cause instanceof FirebaseMessagingException e) {
+        return e.getMessagingErrorCode();
+      }
+      cause = cause.getCause();
+    }
+    return null;  // 네트워크 오류 등은 일시적 오류로 보고 재시도
+  }
+
+  /**
+   * 종료 시 대기 중인 알림을 최대 10초간 발송
+   */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (!queue.isEmpty() && System.currentTimeMillis() < deadline) {
+      flush();
+      Thread.sleep(50);
+    }
+    if (!queue.isEmpty() || !retryQueue.isEmpty()) {
+      log.warn("Discarding {} pending push notifications on shutdown",
+          queue.size() + retryQueue.size());
+    }
+  }
+
+  private Delivery newDelivery(User user, String title, String body, Map<String, String> data) {
+    return new Delivery(user.getId(), user.getFcmToken(),
+        buildMessage(user.getFcmToken(), title, body, data), 0, System.currentTimeMillis(), 0);
+  }
+
+  private Message buildMessage(String token, String title, String body, Map<String, String> data) {
+    Message.Builder messageBuilder = Message.builder()
+        .setToken(token)
+        .setNotification(Notification.builder()
+            .setTitle(title)
+            .setBody(body)
+            .build())
+        .setApnsConfig(ApnsConfig.builder()
+            .setAps(Aps.builder()
+                .setSound("default")
+                .build())
+            .build());
+
+    // 데이터가 있으면 추가
+    if (data != null && !data.isEmpty()) {
+      messageBuilder.putAllData(data);
+    }
+    return messageBuilder.build();
+  }
+
+  /**
+   * 일괄 전송할 사용자별 푸시 알림
+   */
+  public record PushNotification(User user, String title, String body, Map<String, String> data) {
+
+  }
+
+  /**
+   * 발송 대기 중인 메시지 (retryAt까지 재시도 큐에서 대기)
+   */
+  private record Delivery(ObjectId userId, String token, Message message, int attempt,
+                          long enqueuedAt, long retryAt) implements Delayed {
+
+    Delivery retry(long delayMs) {
+      return new Delivery(userId, token, message, attempt + 1, enqueuedAt,
+          System.currentTimeMillis() + delayMs);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(retryAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
 
-      String response = FirebaseMessaging.getInstance().send(messageBuilder.build());
-      log.info("Successfully sent message to user {}: {}", user.getId(), response);
-    } catch (FirebaseMessagingException e) {
-      log.error("Failed to send message to user {}: {}", user.getId(), e.getMessage());
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
     }
   }
 }
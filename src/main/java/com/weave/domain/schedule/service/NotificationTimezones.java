@@ -0,0 +1,54 @@
+package com.weave.domain.schedule.service;
+
+import com.weave.domain.user.entity.User;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알림 발송 시간대 구분
+ * 시간대를 설정하지 않은 사용자는 기본 시간대(Asia/Seoul)로 간주
+ */
+public final class NotificationTimezones {
+
+  public static final ZoneId DEFAULT_ZONE = ScheduleRecurrenceService.SEOUL_ZONE;
+
+  private NotificationTimezones() {
+  }
+
+  /**
+   * 사용자가 해당 시간대 발송 대상인지
+   */
+  public static boolean belongsTo(User user, ZoneId zone) {
+    return storedValues(zone).contains(user.getTimezone());
+  }
+
+  /**
+   * 저장된 시간대 값 중 해당 시간대로 묶이는 값 (기본 시간대는 미설정(null) 포함)
+   */
+  public static List<String> storedValues(ZoneId zone) {
+    return DEFAULT_ZONE.equals(zone)
+        ? Arrays.asList(null, zone.getId())
+        : List.of(zone.getId());
+  }
+
+  /**
+   * 발송 대상 시간대 목록 (기본 시간대 항상 포함, 잘못된 값 제외)
+   */
+  public static Set<ZoneId> zonesOf(Collection<String> storedTimezones) {
+    Set<ZoneId> zones = new LinkedHashSet<>();
+    zones.add(DEFAULT_ZONE);
+    for (String timezone : storedTimezones) {
+      try {
+        zones.add(ZoneId.of(timezone));
+      } catch (DateTimeException e) {
+        // 잘못 저장된 값은 무시
+      }
+    }
+    return zones;
+  }
+}
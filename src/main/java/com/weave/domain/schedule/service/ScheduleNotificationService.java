@@ -44,9 +44,7 @@ public class ScheduleNotificationService {
     data.put("scheduleId", schedule.getId().toHexString());
     data.put("scheduleTitle", schedule.getTitle());
 
-    participants.parallelStream()
-        .filter(User::getPushEnabled)
-        .forEach(user -> notificationService.sendPushNotificationWithData(user, title, body, data));
+    notificationService.sendPushNotifications(participants, title, body, data);
 
     log.info("Sent schedule creation notification to {} users", participants.size());
   }
@@ -84,9 +82,7 @@ public class ScheduleNotificationService {
       inviteData.put("scheduleId", schedule.getId().toHexString());
       inviteData.put("scheduleTitle", schedule.getTitle());
 
-      newUsers.parallelStream()
-          .filter(User::getPushEnabled)
-          .forEach(user -> notificationService.sendPushNotificationWithData(user, inviteTitle, inviteBody, inviteData));
+      notificationService.sendPushNotifications(newUsers, inviteTitle, inviteBody, inviteData);
 
       log.info("Sent schedule invite notification to {} new participants", newUsers.size());
     }
@@ -103,9 +99,7 @@ public class ScheduleNotificationService {
       updateData.put("scheduleId", schedule.getId().toHexString());
       updateData.put("scheduleTitle", schedule.getTitle());
 
-      existingUsers.parallelStream()
-          .filter(User::getPushEnabled)
-          .forEach(user -> notificationService.sendPushNotificationWithData(user, updateTitle, updateBody, updateData));
+      notificationService.sendPushNotifications(existingUsers, updateTitle, updateBody, updateData);
 
       log.info("Sent schedule update notification to {} existing participants", existingUsers.size());
     }
@@ -139,9 +133,7 @@ public class ScheduleNotificationService {
     data.put("scheduleId", schedule.getId().toHexString());
     data.put("scheduleTitle", schedule.getTitle());
 
-    participants.parallelStream()
-        .filter(User::getPushEnabled)
-        .forEach(user -> notificationService.sendPushNotificationWithData(user, title, body, data));
+    notificationService.sendPushNotifications(participants, title, body, data);
 
     log.info("Sent schedule delete notification to {} users", participants.size());
   }
@@ -168,10 +160,10 @@ public class ScheduleNotificationService {
     data.put("scheduleTitle", schedule.getTitle());
     data.put("inviterName", inviterName);
 
-    participants.parallelStream()
-        .filter(User::getPushEnabled)
+    List<User> invitees = participants.stream()
         .filter(user -> inviter == null || !user.getId().equals(inviter.getId())) // 초대자 본인은 제외
-        .forEach(user -> notificationService.sendPushNotificationWithData(user, title, body, data));
+        .toList();
+    notificationService.sendPushNotifications(invitees, title, body, data);
 
     log.info("Sent schedule invite notification from {} to {} participants", inviterName, participants.size());
   }
@@ -0,0 +1,236 @@
+package com.weave.domain.schedule.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ibm.icu.util.Calendar;
+import com.ibm.icu.util.DangiCalendar;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+import com.weave.domain.schedule.entity.Schedule;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 반복 일정 회차 전개
+ * - daily/weekly/monthly/yearly 반복과 음력(calendar_type=lunar) monthly/yearly 반복 지원
+ * - repeat_until 이후 회차와 exception_dates(yyyy-MM-dd)에 해당하는 회차는 제외
+ * - 조회 구간의 연도별로 필요한 만큼만 지연 전개하고, 연도별 결과는 일정 규칙 버전별로 캐시
+ */
+@Slf4j
+@Service
+public class ScheduleRecurrenceService {
+
+  public static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+
+  // DB 조회용 반복 타입 (기존 데이터에 대문자 값이 섞여 있음)
+  public static final List<String> RECURRING_TYPES = List.of(
+      "daily", "weekly", "monthly", "yearly", "DAILY", "WEEKLY", "MONTHLY", "YEARLY");
+
+  // 다음 회차 탐색 범위 (예외 날짜로 건너뛰는 경우 포함)
+  private static final int NEXT_OCCURRENCE_SEARCH_YEARS = 5;
+
+  private final Cache<String, List<Occurrence>> yearCache = CacheBuilder.newBuilder()
+      .maximumSize(20_000)
+      .expireAfterAccess(1, TimeUnit.HOURS)
+      .build();
+
+  public static boolean isRecurring(Schedule schedule) {
+    return schedule.getRepeatType() != null
+        && RECURRING_TYPES.contains(schedule.getRepeatType())
+        && schedule.getStartDate() != null;
+  }
+
+  /**
+   * [from, to) 구간에 시작하는 회차 (시작 시각 순, 연도 단위로 지연 전개)
+   * 반복하지 않는 일정은 시작일이 구간 안일 때 원래 일정 하나
+   */
+  public Stream<Occurrence> occurrences(Schedule schedule, Date from, Date to) {
+    if (schedule.getStartDate() == null || !from.before(to)) {
+      return Stream.empty();
+    }
+    if (!isRecurring(schedule)) {
+      Date start = schedule.getStartDate();
+      return !start.before(from) && start.before(to)
+          ? Stream.of(new Occurrence(start, schedule.getEndDate()))
+          : Stream.empty();
+    }
+
+    int firstYear = Math.max(yearOf(from), yearOf(schedule.getStartDate()));
+    int lastYear = yearOf(new Date(to.getTime() - 1));
+    if (schedule.getRepeatUntil() != null) {
+      lastYear = Math.min(lastYear, yearOf(schedule.getRepeatUntil()));
+    }
+
+    return IntStream.rangeClosed(firstYear, lastYear)
+        .mapToObj(year -> expandYear(schedule, year))
+        .flatMap(List::stream)
+        .filter(occurrence -> !occurrence.startDate().before(from)
+            && occurrence.startDate().before(to));
+  }
+
+  /**
+   * after 이후(포함) 첫 회차, 없으면 null
+   */
+  public Occurrence nextOccurrence(Schedule schedule, Date after) {
+    if (!isRecurring(schedule)) {
+      return schedule.getStartDate() != null && !schedule.getStartDate().before(after)
+          ? new Occurrence(schedule.getStartDate(), schedule.getEndDate())
+          : null;
+    }
+
+    Date searchEnd = Date.from(after.toInstant().atZone(SEOUL_ZONE)
+        .plusYears(NEXT_OCCURRENCE_SEARCH_YEARS).toInstant());
+    return occurrences(schedule, after, searchEnd).findFirst().orElse(null);
+  }
+
+  /**
+   * now에 진행 중이거나 이후 시작하는 첫 회차, 없으면 null
+   * 회차 길이는 원래 일정 길이와 같으므로 (now - 일정 길이) 이후 시작하는 첫 회차
+   */
+  public Occurrence currentOccurrence(Schedule schedule, Date now) {
+    if (schedule.getStartDate() == null) {
+      return null;
+    }
+    long durationMs = schedule.getEndDate() != null
+        ? Math.max(0, schedule.getEndDate().getTime() - schedule.getStartDate().getTime()) : 0;
+    return nextOccurrence(schedule, new Date(now.getTime() - durationMs));
+  }
+
+  private List<Occurrence> expandYear(Schedule schedule, int year) {
+    if (schedule.getId() == null) {
+      return computeYear(schedule, year);
+    }
+    try {
+      return yearCache.get(cacheKey(schedule, year), () -> computeYear(schedule, year));
+    } catch (ExecutionException e) {
+      log.warn("Failed to expand schedule {} for {}: {}", schedule.getId(), year,
+          e.getCause().getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * 일정 규칙이 바뀌면 키도 바뀌므로 별도 무효화 없이 새로 전개됨
+   */
+  private String cacheKey(Schedule schedule, int year) {
+    return schedule.getId().toHexString()
+        + ':' + schedule.getStartDate().getTime()
+        + ':' + (schedule.getEndDate() != null ? schedule.getEndDate().getTime() : 0)
+        + ':' + schedule.getRepeatType()
+        + ':' + schedule.getCalendarType()
+        + ':' + (schedule.getRepeatUntil() != null ? schedule.getRepeatUntil().getTime() : 0)
+        + ':' + (schedule.getExceptionDates() != null ? schedule.getExceptionDates().hashCode() : 0)
+        + ':' + year;
+  }
+
+  private List<Occurrence> computeYear(Schedule schedule, int year) {
+    ZonedDateTime start = schedule.getStartDate().toInstant().atZone(SEOUL_ZONE);
+    long durationMs = schedule.getEndDate() != null
+        ? schedule.getEndDate().getTime() - schedule.getStartDate().getTime() : 0;
+    Set<String> exceptions = schedule.getExceptionDates() != null
+        ? new HashSet<>(schedule.getExceptionDates()) : Set.of();
+    Date until = schedule.getRepeatUntil();
+    boolean lunar = "lunar".equalsIgnoreCase(schedule.getCalendarType());
+    String repeatType = schedule.getRepeatType().toLowerCase();
+
+    // 해당 연도 직전 회차 번호부터 시작 (원래 시작일 기준으로 계산해 월말/윤달 날짜가 밀리지 않도록 함)
+    long index = firstIndexBefore(start, repeatType, year);
+    List<Occurrence> occurrences = new ArrayList<>();
+    while (true) {
+      ZonedDateTime occurrence = occurrenceAt(start, repeatType, lunar, index++);
+      if (occurrence.getYear() > year
+          || until != null && occurrence.toInstant().isAfter(until.toInstant())) {
+        break;
+      }
+      if (occurrence.getYear() < year
+          || exceptions.contains(occurrence.toLocalDate().toString())) {
+        continue;
+      }
+
+      Date occurrenceStart = Date.from(occurrence.toInstant());
+      occurrences.add(new Occurrence(occurrenceStart,
+          schedule.getEndDate() != null ? new Date(occurrenceStart.getTime() + durationMs) : null));
+    }
+    return List.copyOf(occurrences);
+  }
+
+  private long firstIndexBefore(ZonedDateTime start, String repeatType, int year) {
+    long days = ChronoUnit.DAYS.between(start.toLocalDate(), LocalDate.of(year, 1, 1));
+    if (days <= 0) {
+      return 0;
+    }
+    // 음력 한 달(29~30일), 한 해(354~384일)를 고려해 과소 추정
+    long estimate = switch (repeatType) {
+      case "daily" -> days - 1;
+      case "weekly" -> days / 7 - 1;
+      case "monthly" -> days / 31 - 1;
+      case "yearly" -> days / 385 - 1;
+      default -> 0;
+    };
+    return Math.max(0, estimate);
+  }
+
+  private ZonedDateTime occurrenceAt(ZonedDateTime start, String repeatType, boolean lunar,
+      long index) {
+    return switch (repeatType) {
+      case "daily" -> start.plusDays(index);
+      case "weekly" -> start.plusWeeks(index);
+      case "monthly" -> lunar ? lunarOccurrence(start, Calendar.MONTH, index)
+          : start.plusMonths(index);
+      case "yearly" -> lunar ? lunarOccurrence(start, Calendar.EXTENDED_YEAR, index)
+          : start.plusYears(index);
+      default -> throw new IllegalArgumentException("Unsupported repeat type: " + repeatType);
+    };
+  }
+
+  /**
+   * 음력 회차 (단기력 기준, 해당 월에 같은 날이 없으면 말일, 윤달은 평달로 반복)
+   */
+  private ZonedDateTime lunarOccurrence(ZonedDateTime start, int field, long index) {
+    DangiCalendar calendar = new DangiCalendar(TimeZone.getTimeZone(SEOUL_ZONE.getId()),
+        ULocale.KOREA);
+    calendar.setTime(Date.from(start.toLocalDate().atStartOfDay(SEOUL_ZONE).toInstant()));
+    int day = calendar.get(Calendar.DAY_OF_MONTH);
+
+    if (field == Calendar.EXTENDED_YEAR) {
+      int extendedYear = calendar.get(Calendar.EXTENDED_YEAR);
+      int month = calendar.get(Calendar.MONTH);
+      calendar.clear();
+      calendar.set(Calendar.EXTENDED_YEAR, extendedYear + (int) index);
+      calendar.set(Calendar.MONTH, month);
+      calendar.set(Calendar.IS_LEAP_MONTH, 0);
+    } else {
+      calendar.set(Calendar.DAY_OF_MONTH, 1);
+      calendar.add(Calendar.MONTH, (int) index);
+    }
+    calendar.set(Calendar.DAY_OF_MONTH,
+        Math.min(day, calendar.getActualMaximum(Calendar.DAY_OF_MONTH)));
+
+    LocalDate date = calendar.getTime().toInstant().atZone(SEOUL_ZONE).toLocalDate();
+    return date.atTime(start.toLocalTime()).atZone(SEOUL_ZONE);
+  }
+
+  private static int yearOf(Date date) {
+    return date.toInstant().atZone(SEOUL_ZONE).getYear();
+  }
+
+  /**
+   * 일정 회차 (종료 시각은 원래 일정 기간만큼 이동)
+   */
+  public record Occurrence(Date startDate, Date endDate) {
+
+  }
+}
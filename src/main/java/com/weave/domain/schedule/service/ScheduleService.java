@@ -12,6 +12,7 @@ import com.weave.domain.schedule.dto.ScheduleResponseDto;
 import com.weave.domain.schedule.dto.UpdateRequestScheduleDto;
 import com.weave.domain.schedule.entity.Schedule;
 import com.weave.domain.schedule.repository.ScheduleRepository;
+import com.weave.domain.schedule.scheduler.ScheduleReminderDispatcher;
 import com.weave.domain.schedulephoto.repository.SchedulePhotoRepository;
 import com.weave.domain.user.entity.User;
 import com.weave.domain.user.repository.UserRepository;
@@ -39,6 +40,7 @@ public class ScheduleService {
   private final ChecklistService checklistService;
   private final CommentRepository commentRepository;
   private final SchedulePhotoRepository schedulePhotoRepository;
+  private final ScheduleReminderDispatcher scheduleReminderDispatcher;
 
   public ScheduleResponseDto create(CreateRequestScheduleDto dto, String creatorEmail) {
     log.info("create schedule: {}", dto);
@@ -63,15 +65,18 @@ public class ScheduleService {
         .startDate(dto.getStartDate())
         .endDate(dto.getEndDate())
         .repeatType(String.valueOf(dto.getRepeatType()))
+        .repeatUntil(dto.getRepeatUntil())
+        .exceptionDates(dto.getExceptionDates())
         .participants(participantIds)
         .calendarType(dto.getCalendarType())
         .isAllDay(dto.getIsAllDay() != null ? dto.getIsAllDay() : false)
         .reminderMinutes(dto.getReminderMinutes())
-        .reminderSent(false)
         .isImportant(dto.getIsImportant() != null ? dto.getIsImportant() : false)
         .build();
+    scheduleReminderDispatcher.applyReminderDue(schedule);
 
     Schedule savedSchedule = scheduleRepository.save(schedule);
+    scheduleReminderDispatcher.schedule(savedSchedule);
 
     // 일정 참여자에게 초대 알림 발송 (생성자 포함하여 워크스페이스에도 알림)
     scheduleNotificationService.sendScheduleCreatedNotification(workspace, savedSchedule);
@@ -98,18 +103,15 @@ public class ScheduleService {
     schedule.setStartDate(dto.getStartDate());
     schedule.setEndDate(dto.getEndDate());
     schedule.setRepeatType(String.valueOf(dto.getRepeatType()));
+    schedule.setRepeatUntil(dto.getRepeatUntil());
+    schedule.setExceptionDates(dto.getExceptionDates());
     schedule.setCalendarType(dto.getCalendarType());
     schedule.setIsAllDay(dto.getIsAllDay() != null ? dto.getIsAllDay() : false);
     schedule.setReminderMinutes(dto.getReminderMinutes());
     schedule.setIsImportant(dto.getIsImportant() != null ? dto.getIsImportant() : false);
 
-    // 알림 설정이 변경되면 reminderSent 초기화
-    schedule.setReminderSent(false);
-
-    // 중요 일정이 변경되면 D-day 알림 초기화
-    if (dto.getIsImportant() != null && dto.getIsImportant()) {
-      schedule.setLastDdayNotificationSent(null);
-    }
+    // 알림 설정이 변경되면 발송 시각/reminderSent 다시 계산
+    scheduleReminderDispatcher.applyReminderDue(schedule);
 
     Optional.ofNullable(dto.getParticipants())
         .ifPresent(participants ->
@@ -121,6 +123,10 @@ public class ScheduleService {
         );
 
     Schedule updatedSchedule = scheduleRepository.save(schedule);
+    scheduleReminderDispatcher.schedule(updatedSchedule);
+
+    // 위치 알림의 일정 기간/워크스페이스 동기화
+    locationReminderService.syncSchedule(updatedSchedule);
 
     // 기존 참여자 목록과 함께 알림 발송 (새로운 참여자에게는 초대 알림)
     scheduleNotificationService.sendScheduleUpdatedNotification(updatedSchedule, oldParticipants);
@@ -135,6 +141,8 @@ public class ScheduleService {
     scheduleNotificationService.sendScheduleDeletedNotification(schedule);
 
     scheduleRepository.delete(schedule);
+    scheduleReminderDispatcher.cancel(schedule.getId());
+    locationReminderService.deleteReminder(id);
     return ScheduleResponseDto.from(schedule);
   }
 
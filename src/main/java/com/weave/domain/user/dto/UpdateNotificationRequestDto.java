@@ -14,4 +14,5 @@ public class UpdateNotificationRequestDto {
   private Boolean pushEnabled;
   private String fcmToken;
   private Boolean locationEnabled;
+  private String timezone;
 }
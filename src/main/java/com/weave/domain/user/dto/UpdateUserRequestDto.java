@@ -21,4 +21,5 @@ public class UpdateUserRequestDto {
   private Boolean pushEnabled;
   private Boolean locationEnabled;
   private String avatarUrl;
+  private String timezone;
 }
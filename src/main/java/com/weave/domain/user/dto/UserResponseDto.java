@@ -44,6 +44,9 @@ public class UserResponseDto {
   @Schema(description = "유저 프로필 이미지", example = "https://example.com/avatar.jpg")
   private String avatarUrl;
 
+  @Schema(description = "시간대 (IANA)", example = "Asia/Seoul")
+  private String timezone;
+
   @Schema(description = "생성일시", example = "2025-01-01T10:00:00Z")
   private Date createdAt;
 
@@ -62,6 +65,7 @@ public class UserResponseDto {
         .pushEnabled(user.getPushEnabled() != null ? user.getPushEnabled() : true)
         .locationEnabled(user.getLocationEnabled() != null ? user.getLocationEnabled() : false)
         .avatarUrl(user.getAvatarUrl())
+        .timezone(user.getTimezone())
         .createdAt(user.getCreatedAt())
         .updatedAt(user.getUpdatedAt())
         .build();
@@ -59,6 +59,10 @@ public class User {
   @Builder.Default
   private Boolean locationEnabled = false;
 
+  @Field("timezone")
+  @Indexed
+  private String timezone;  // IANA 시간대 (예: Asia/Seoul), 없으면 Asia/Seoul로 간주
+
 //  @Field("phishing_guard_enabled")
 //  @Builder.Default
 //  private Boolean phishingGuardEnabled = false;
@@ -0,0 +1,17 @@
+package com.weave.domain.user.repository;
+
+import java.util.List;
+import org.bson.types.ObjectId;
+
+public interface UserRepositoryCustom {
+
+  /**
+   * 사용자가 설정한 시간대 목록 (미설정 제외)
+   */
+  List<String> findDistinctTimezones();
+
+  /**
+   * 만료된 FCM 토큰 삭제 (그사이 새 토큰으로 바뀌었으면 유지)
+   */
+  void clearFcmToken(ObjectId userId, String fcmToken);
+}
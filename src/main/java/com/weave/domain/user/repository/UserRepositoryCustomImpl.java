@@ -0,0 +1,32 @@
+package com.weave.domain.user.repository;
+
+import com.weave.domain.user.entity.User;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public List<String> findDistinctTimezones() {
+    return mongoTemplate.findDistinct(new Query(Criteria.where("timezone").ne(null)),
+        "timezone", User.class, String.class);
+  }
+
+  @Override
+  public void clearFcmToken(ObjectId userId, String fcmToken) {
+    // fcm_token은 unique sparse 인덱스라 null 대신 필드 삭제
+    mongoTemplate.updateFirst(
+        new Query(Criteria.where("_id").is(userId).and("fcm_token").is(fcmToken)),
+        new Update().unset("fcm_token"), User.class);
+  }
+}
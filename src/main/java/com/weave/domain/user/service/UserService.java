@@ -1,6 +1,9 @@
 package com.weave.domain.user.service;
 
 import com.weave.domain.location.repository.LocationRepository;
+import com.weave.domain.location.repository.LocationTrailRepository;
+import com.weave.domain.location.service.LocationLiveStore;
+import com.weave.domain.location.service.LocationService;
 import com.weave.domain.schedule.entity.Schedule;
 import com.weave.domain.schedule.repository.ScheduleRepository;
 import com.weave.domain.user.dto.UpdateNotificationRequestDto;
@@ -12,6 +15,8 @@ import com.weave.domain.workspace.entity.Workspace;
 import com.weave.domain.workspace.repository.WorkspaceRepository;
 import com.weave.global.BusinessException;
 import com.weave.global.ErrorCode;
+import java.time.DateTimeException;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +34,9 @@ public class UserService {
   private final WorkspaceRepository workspaceRepository;
   private final ScheduleRepository scheduleRepository;
   private final LocationRepository locationRepository;
+  private final LocationLiveStore locationLiveStore;
+  private final LocationTrailRepository locationTrailRepository;
+  private final LocationService locationService;
 
   public Boolean existsByInviteCode(String code) {
     return userRepository.existsByInviteCode(code);
@@ -61,10 +69,22 @@ public class UserService {
       user.setLocationEnabled(dto.getLocationEnabled());
     }
 
+    if (dto.getTimezone() != null) {
+      user.setTimezone(normalizeTimezone(dto.getTimezone()));
+    }
+
     log.info("📱 [Notification Update] AFTER: pushEnabled={}, locationEnabled={}",
         user.getPushEnabled(), user.getLocationEnabled());
 
     userRepository.save(user);
+
+    // 저장 후 위치 서비스의 사용자 캐시를 비우고 실시간 위치 제거 (이전 값으로 다시 기록되지 않도록)
+    if (dto.getLocationEnabled() != null) {
+      locationService.invalidateUser(email);
+      if (Boolean.FALSE.equals(dto.getLocationEnabled())) {
+        evictLiveLocations(user.getId());
+      }
+    }
     return UserResponseDto.from(user);
   }
 
@@ -94,12 +114,34 @@ public class UserService {
     if (dto.getLocationEnabled() != null) {
       user.setLocationEnabled(dto.getLocationEnabled());
     }
+    if (dto.getTimezone() != null) {
+      user.setTimezone(normalizeTimezone(dto.getTimezone()));
+    }
 
     userRepository.save(user);
 
+    // 실시간 위치 저장소의 사용자 이름/공유 여부 반영 (다음 위치 수신 시 새 사용자 정보로 다시 저장됨)
+    if (dto.getName() != null || dto.getLocationEnabled() != null) {
+      locationService.invalidateUser(email);
+    }
+    if (dto.getName() != null || Boolean.FALSE.equals(dto.getLocationEnabled())) {
+      evictLiveLocations(user.getId());
+    }
+
     return UserResponseDto.from(user);
   }
 
+  /**
+   * 시간대 검증 후 표준 IANA id로 변환 (알림 발송 시간대 구분에 사용)
+   */
+  private String normalizeTimezone(String timezone) {
+    try {
+      return ZoneId.of(timezone).getId();
+    } catch (DateTimeException e) {
+      throw new BusinessException(ErrorCode.BAD_REQUEST, "Invalid timezone: " + timezone);
+    }
+  }
+
   public UserResponseDto findByEmail(String email) {
     User user = userRepository.findByEmail(email)
         .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -131,6 +173,8 @@ public class UserService {
 
     // 1. 워크스페이스 처리
     List<Workspace> workspaces = workspaceRepository.findByUsersContaining(userId);
+    locationLiveStore.removeUser(userId.toString(),
+        workspaces.stream().map(workspace -> workspace.getId().toString()).toList());
     for (Workspace workspace : workspaces) {
       workspace.getUsers().remove(userId);
 
@@ -164,6 +208,8 @@ public class UserService {
 
     // 3. 위치 정보 삭제 (실시간 위치 데이터는 삭제해도 됨)
     locationRepository.deleteByUserId(userId);
+    locationTrailRepository.deleteByUserId(userId);
+    locationService.invalidateUser(email);
 
     // 4. 사용자 소프트 삭제
     user.setDeleted(true);
@@ -172,4 +218,14 @@ public class UserService {
 
     log.info("회원 탈퇴 완료 (소프트 삭제) - userId: {}, email: {}, deletedAt: {}", userId, email, user.getDeletedAt());
   }
+
+  /**
+   * 사용자의 모든 워크스페이스 실시간 위치 제거
+   */
+  private void evictLiveLocations(ObjectId userId) {
+    List<String> workspaceIds = workspaceRepository.findByUsersContaining(userId).stream()
+        .map(workspace -> workspace.getId().toString())
+        .toList();
+    locationLiveStore.removeUser(userId.toString(), workspaceIds);
+  }
 }
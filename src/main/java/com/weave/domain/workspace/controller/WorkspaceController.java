@@ -79,15 +79,18 @@ public class WorkspaceController {
   // 워크스페이스 스케줄 조회
   @SecurityRequirement(name = "JWT")
   @Tag(name = "WORKSPACE")
-  @Operation(summary = "워크스페이스의 스케줄 찾기 (공휴일 포함)")
+  @Operation(summary = "워크스페이스의 스케줄 찾기 (공휴일 포함)",
+      description = "expand=true면 반복 일정을 조회 기간 안의 회차로 전개해 반환합니다 (회차는 occurrenceStart로 표시).")
   @GetMapping("/{id}/schedule/")
   public ApiResponse<WorkspaceScheduleResponseDto> findWorkspaceSchedule(
       @PathVariable("id") String id,
       @RequestParam(value = "year", required = false) String year,
       @RequestParam(value = "month", required = false) String month,
       @RequestParam(value = "week", required = false) String week,
-      @RequestParam(value = "day", required = false) String day) {
-    return ApiResponse.ok(workspaceService.findWorkspaceSchedule(id, year, month, week, day));
+      @RequestParam(value = "day", required = false) String day,
+      @RequestParam(value = "expand", defaultValue = "false") boolean expand) {
+    return ApiResponse.ok(
+        workspaceService.findWorkspaceSchedule(id, year, month, week, day, expand));
   }
 
   // 참여자별 색상 지정
@@ -105,11 +108,14 @@ public class WorkspaceController {
   // 워크스페이스 이번년도 피드 스케줄 조회
   @SecurityRequirement(name = "JWT")
   @Tag(name = "WORKSPACE")
-  @Operation(summary = "워크스페이스의 피드 스케줄 찾기)")
+  @Operation(summary = "워크스페이스의 피드 스케줄 찾기)",
+      description = "expand=true면 반복 일정을 이번년도 남은 회차로 전개해 반환합니다 (회차는 occurrenceStart로 표시).")
   @GetMapping("/{id}/schedule/feed")
   public ApiResponse<WorkspaceScheduleResponseDto> findWorkspaceScheduleFeed(
-      @PathVariable("id") String id, @AuthenticationPrincipal UserDetails userDetails) {
-    return ApiResponse.ok(workspaceService.findWorkspaceScheduleFeed(id, userDetails));
+      @PathVariable("id") String id,
+      @RequestParam(value = "expand", defaultValue = "false") boolean expand,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return ApiResponse.ok(workspaceService.findWorkspaceScheduleFeed(id, userDetails, expand));
   }
 
   // 초대코드로 워크스페이스 참여
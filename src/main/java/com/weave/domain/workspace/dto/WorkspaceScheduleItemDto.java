@@ -32,4 +32,5 @@ public class WorkspaceScheduleItemDto {
   private String calendarType;
   private Integer reminderMinutes;  // 알림 시간 (분 단위)
   private Boolean isImportant;  // 중요 일정 여부
+  private Date occurrenceStart;  // 전개된 반복 일정 회차인 경우 회차 시작 시간 (id는 원본 일정 id)
 }
@@ -7,6 +7,7 @@ import com.weave.domain.schedule.dto.HolidayDto;
 import com.weave.domain.schedule.entity.Schedule;
 import com.weave.domain.schedule.repository.ScheduleRepository;
 import com.weave.domain.schedule.service.HolidayService;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService;
 import com.weave.domain.user.dto.UserResponseDto;
 import com.weave.domain.user.entity.User;
 import com.weave.domain.user.repository.UserRepository;
@@ -49,6 +50,7 @@ public class WorkspaceService {
   private final UserRepository userRepository;
   private final ScheduleRepository scheduleRepository;
   private final HolidayService holidayService;
+  private final ScheduleRecurrenceService scheduleRecurrenceService;
 
   public WorkspaceResponseDto create(CreateWorkspaceRequestDto dto, String email) {
 
@@ -236,14 +238,18 @@ public class WorkspaceService {
     return toDto(workspace, uMap);
   }
 
+  /**
+   * @param expand true면 반복 일정을 조회 기간 안의 회차로 전개 (occurrenceStart 표시),
+   *               false면 기존처럼 반복 일정 원본을 반환하고 전개는 클라이언트가 수행
+   */
   public WorkspaceScheduleResponseDto findWorkspaceSchedule(String id, String year, String month,
-      String week, String day) {
+      String week, String day, boolean expand) {
     // helper methods for user joins
-    return findWorkspaceScheduleInternal(id, year, month, week, day);
+    return findWorkspaceScheduleInternal(id, year, month, week, day, expand);
   }
 
   public WorkspaceScheduleResponseDto findWorkspaceScheduleFeed(String id,
-      UserDetails userDetails) {
+      UserDetails userDetails, boolean expand) {
     // 현재 사용자 조회
     User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow(
         () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
@@ -261,17 +267,26 @@ public class WorkspaceService {
         .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
 
     // 현재 날짜 기준으로 이번년도만 조회
-    LocalDate today = LocalDate.now();
+    LocalDate today = LocalDate.now(ScheduleRecurrenceService.SEOUL_ZONE);
     int currentYear = today.getYear();
     ObjectId userId = user.getId();
 
     // 최적화: DB 레벨에서 날짜 + 참여자 필터링
-    Date todayStart = Date.from(today.atStartOfDay(java.time.ZoneId.of("Asia/Seoul")).toInstant());
+    Date todayStart = Date.from(
+        today.atStartOfDay(ScheduleRecurrenceService.SEOUL_ZONE).toInstant());
     Date yearEnd = Date.from(LocalDate.of(currentYear, 12, 31)
-        .plusDays(1).atStartOfDay(java.time.ZoneId.of("Asia/Seoul")).toInstant());
+        .plusDays(1).atStartOfDay(ScheduleRecurrenceService.SEOUL_ZONE).toInstant());
 
-    List<Schedule> upcomingSchedules = scheduleRepository
-        .findByWorkspaceAndStartDateAfterAndParticipant(workspaceId, todayStart, userId);
+    List<Schedule> upcomingSchedules = new ArrayList<>(scheduleRepository
+        .findByWorkspaceAndStartDateAfterAndParticipant(workspaceId, todayStart, userId));
+
+    // expand 요청 시 반복 일정은 이번년도 남은 회차로 전개
+    if (expand) {
+      upcomingSchedules.removeIf(ScheduleRecurrenceService::isRecurring);
+      upcomingSchedules.addAll(expandOccurrences(scheduleRepository
+          .findRecurringByWorkspaceAndParticipant(workspaceId,
+              ScheduleRecurrenceService.RECURRING_TYPES, yearEnd, userId), todayStart, yearEnd));
+    }
 
     // 이번년도 공휴일 조회
     List<HolidayDto> currentYearHolidays = holidayService.getHolidaysByYear(currentYear);
@@ -393,7 +408,7 @@ public class WorkspaceService {
   // Split out actual logic to keep helpers above compile-safe
   private WorkspaceScheduleResponseDto findWorkspaceScheduleInternal(String id, String year,
       String month,
-      String week, String day) {
+      String week, String day, boolean expand) {
     // 1. ObjectId 유효성 검사 및 워크스페이스 조회
     ObjectId workspaceId;
     try {
@@ -407,167 +422,139 @@ public class WorkspaceService {
     Workspace workspace = workspaceRepository.findById(workspaceId)
         .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
 
-    // 2. 스케줄 조회
-    List<Schedule> schedules = scheduleRepository.findByWorkspace(workspaceId);
-
-    // year가 없으면 모든 스케줄 반환
+    // year가 없으면 모든 스케줄 반환 (반복 일정은 원본 그대로)
     if (Strings.isNullOrEmpty(year)) {
+      List<Schedule> schedules = scheduleRepository.findByWorkspace(workspaceId);
       Map<ObjectId, User> userMap = buildUserMapForWorkspaceAndSchedules(workspace, schedules);
       return buildResponse(workspace, schedules, ImmutableList.of(), userMap);
     }
 
-    // 3. 공휴일 캘린더 조회
+    // 2. 공휴일 캘린더 조회
     List<HolidayDto> allHolidays = holidayService.getHolidaysByYear(Integer.parseInt(year));
     List<HolidayDto> filteredHolidays = filterHolidaysByPeriod(allHolidays, year, month, week, day);
 
-    // 4. 스케줄 필터링
-    List<Schedule> filteredSchedules = filterSchedulesByPeriod(schedules, year, month, week, day);
+    // 3. 조회 기간의 일정만 조회
+    LocalDate[] period = periodOf(year, month, week, day);
+    Date from = Date.from(period[0].atStartOfDay(ScheduleRecurrenceService.SEOUL_ZONE).toInstant());
+    Date to = Date.from(period[1].atStartOfDay(ScheduleRecurrenceService.SEOUL_ZONE).toInstant());
+
+    List<Schedule> filteredSchedules = new ArrayList<>(
+        scheduleRepository.findByWorkspaceAndDateRange(workspaceId, from, to));
+    if (expand) {
+      // 반복 일정은 기간 안의 회차로 전개
+      filteredSchedules.removeIf(ScheduleRecurrenceService::isRecurring);
+      filteredSchedules.addAll(expandOccurrences(scheduleRepository.findRecurringByWorkspace(
+          workspaceId, ScheduleRecurrenceService.RECURRING_TYPES, to), from, to));
+    } else {
+      // 조회 연도 말 이전에 시작한 반복 일정 원본 (클라이언트에서 펼침, 반복 타입이 none이 아니면 모두 포함)
+      Date yearEnd = Date.from(LocalDate.of(Integer.parseInt(year), 1, 1).plusYears(1)
+          .atStartOfDay(ScheduleRecurrenceService.SEOUL_ZONE).toInstant());
+      filteredSchedules.removeIf(WorkspaceService::isRepeating);
+      filteredSchedules.addAll(scheduleRepository.findRepeatingByWorkspace(workspaceId, yearEnd));
+    }
 
-    // 5. 병합 및 정렬 (유저 조인 포함)
+    // 4. 병합 및 정렬 (유저 조인 포함)
     Map<ObjectId, User> userMap = buildUserMapForWorkspaceAndSchedules(workspace,
         filteredSchedules);
     return buildResponse(workspace, filteredSchedules, filteredHolidays, userMap);
   }
 
-  private List<HolidayDto> filterHolidaysByPeriod(List<HolidayDto> holidays, String year,
-      String month, String week, String day) {
-    if (holidays == null || holidays.isEmpty()) {
-      return ImmutableList.of();
-    }
+  // 클라이언트 전개용 반복 일정 판정 (반복 타입이 null/none이 아니면 반복으로 봄)
+  private static boolean isRepeating(Schedule schedule) {
+    return schedule.getRepeatType() != null && !"none".equalsIgnoreCase(schedule.getRepeatType());
+  }
+
+  /**
+   * 반복 일정을 [from, to) 안의 회차별 일정으로 전개 (id는 원본 일정 id 유지, occurrenceStart로 회차 표시)
+   */
+  private List<Schedule> expandOccurrences(List<Schedule> recurringSchedules, Date from,
+      Date to) {
+    List<Schedule> occurrences = new ArrayList<>();
+    for (Schedule schedule : recurringSchedules) {
+      scheduleRecurrenceService.occurrences(schedule, from, to)
+          .map(occurrence -> schedule.toBuilder()
+              .startDate(occurrence.startDate())
+              .endDate(occurrence.endDate())
+              .occurrenceStart(occurrence.startDate())
+              .build())
+          .forEach(occurrences::add);
+    }
+    return occurrences;
+  }
+
+  /**
+   * 조회 기간 [시작일, 종료일) (year / year+month / year+month+week / year+month+day)
+   */
+  private LocalDate[] periodOf(String year, String month, String week, String day) {
+    int targetYear = Integer.parseInt(year);
 
     // year + month + day
-    if (year != null && month != null && day != null) {
-      String targetDate = String.format("%s%02d%02d", year, Integer.parseInt(month),
+    if (month != null && day != null) {
+      LocalDate targetDate = LocalDate.of(targetYear, Integer.parseInt(month),
           Integer.parseInt(day));
-      return holidays.stream()
-          .filter(h -> h.getLocdate().equals(targetDate))
-          .collect(Collectors.toList());
+      return new LocalDate[]{targetDate, targetDate.plusDays(1)};
     }
 
     // year + month + week
-    if (year != null && month != null && week != null) {
-      LocalDate firstDayOfMonth = LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), 1);
+    if (month != null && week != null) {
+      LocalDate firstDayOfMonth = LocalDate.of(targetYear, Integer.parseInt(month), 1);
       LocalDate startOfWeek = firstDayOfMonth.plusWeeks(Integer.parseInt(week) - 1)
           .with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.SUNDAY));
-      LocalDate endOfWeek = startOfWeek.plusDays(6);
-
-      return holidays.stream()
-          .filter(h -> {
-            LocalDate holidayDate = LocalDate.parse(h.getLocdate(), HOLIDAY_DATE_FORMATTER);
-            return !holidayDate.isBefore(startOfWeek) && !holidayDate.isAfter(endOfWeek);
-          })
-          .collect(Collectors.toList());
+      return new LocalDate[]{startOfWeek, startOfWeek.plusDays(7)};
     }
 
     // year + month
-    if (year != null && month != null) {
-      String yearMonth = String.format("%s%02d", year, Integer.parseInt(month));
-      return holidays.stream()
-          .filter(h -> h.getLocdate().startsWith(yearMonth))
-          .collect(Collectors.toList());
+    if (month != null) {
+      LocalDate firstDayOfMonth = LocalDate.of(targetYear, Integer.parseInt(month), 1);
+      return new LocalDate[]{firstDayOfMonth, firstDayOfMonth.plusMonths(1)};
     }
 
     // year only
-    return holidays.stream()
-        .filter(h -> h.getLocdate().startsWith(year))
-        .collect(Collectors.toList());
+    LocalDate yearStart = LocalDate.of(targetYear, 1, 1);
+    return new LocalDate[]{yearStart, yearStart.plusYears(1)};
   }
 
-  private List<Schedule> filterSchedulesByPeriod(List<Schedule> schedules, String year,
+  private List<HolidayDto> filterHolidaysByPeriod(List<HolidayDto> holidays, String year,
       String month, String week, String day) {
-    if (schedules == null || schedules.isEmpty()) {
+    if (holidays == null || holidays.isEmpty()) {
       return ImmutableList.of();
     }
 
-    int targetYear = year != null ? Integer.parseInt(year) : 0;
-    LocalDate yearStart = year != null ? LocalDate.of(targetYear, 1, 1) : null;
-    LocalDate yearEnd = year != null ? LocalDate.of(targetYear, 12, 31) : null;
-
-    // 반복 일정 필터: startDate가 조회 연도 이전이거나 같은 해인 경우 포함
-    // (조회 연도에 반복될 수 있는 일정)
-    java.util.function.Predicate<Schedule> isRepeatingScheduleForYear = s -> {
-      if (s.getRepeatType() == null || "none".equalsIgnoreCase(s.getRepeatType())) {
-        return false;
-      }
-      if (yearStart == null) {
-        return true;
-      }
-      LocalDate scheduleDate = s.getStartDate().toInstant()
-          .atZone(java.time.ZoneId.of("Asia/Seoul"))
-          .toLocalDate();
-      // 반복 일정은 시작일이 조회 연도 이전이거나 같은 해면 포함
-      return !scheduleDate.isAfter(yearEnd);
-    };
-
     // year + month + day
     if (year != null && month != null && day != null) {
-      LocalDate targetDate = LocalDate.of(targetYear, Integer.parseInt(month),
+      String targetDate = String.format("%s%02d%02d", year, Integer.parseInt(month),
           Integer.parseInt(day));
-      return schedules.stream()
-          .filter(s -> {
-            // 반복 일정은 별도 처리 (프론트에서 펼침)
-            if (isRepeatingScheduleForYear.test(s)) {
-              return true;
-            }
-            LocalDate scheduleDate = s.getStartDate().toInstant()
-                .atZone(java.time.ZoneId.of("Asia/Seoul"))
-                .toLocalDate();
-            return scheduleDate.equals(targetDate);
-          })
+      return holidays.stream()
+          .filter(h -> h.getLocdate().equals(targetDate))
           .collect(Collectors.toList());
     }
 
     // year + month + week
     if (year != null && month != null && week != null) {
-      LocalDate firstDayOfMonth = LocalDate.of(targetYear, Integer.parseInt(month), 1);
+      LocalDate firstDayOfMonth = LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), 1);
       LocalDate startOfWeek = firstDayOfMonth.plusWeeks(Integer.parseInt(week) - 1)
           .with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.SUNDAY));
       LocalDate endOfWeek = startOfWeek.plusDays(6);
 
-      return schedules.stream()
-          .filter(s -> {
-            // 반복 일정은 별도 처리 (프론트에서 펼침)
-            if (isRepeatingScheduleForYear.test(s)) {
-              return true;
-            }
-            LocalDate scheduleDate = s.getStartDate().toInstant()
-                .atZone(java.time.ZoneId.of("Asia/Seoul"))
-                .toLocalDate();
-            return !scheduleDate.isBefore(startOfWeek) && !scheduleDate.isAfter(endOfWeek);
+      return holidays.stream()
+          .filter(h -> {
+            LocalDate holidayDate = LocalDate.parse(h.getLocdate(), HOLIDAY_DATE_FORMATTER);
+            return !holidayDate.isBefore(startOfWeek) && !holidayDate.isAfter(endOfWeek);
           })
           .collect(Collectors.toList());
     }
 
     // year + month
     if (year != null && month != null) {
-      int targetMonth = Integer.parseInt(month);
-      return schedules.stream()
-          .filter(s -> {
-            // 반복 일정은 별도 처리 (프론트에서 펼침)
-            if (isRepeatingScheduleForYear.test(s)) {
-              return true;
-            }
-            LocalDate scheduleDate = s.getStartDate().toInstant()
-                .atZone(java.time.ZoneId.of("Asia/Seoul"))
-                .toLocalDate();
-            return scheduleDate.getYear() == targetYear
-                && scheduleDate.getMonthValue() == targetMonth;
-          })
+      String yearMonth = String.format("%s%02d", year, Integer.parseInt(month));
+      return holidays.stream()
+          .filter(h -> h.getLocdate().startsWith(yearMonth))
           .collect(Collectors.toList());
     }
 
     // year only
-    return schedules.stream()
-        .filter(s -> {
-          // 반복 일정은 별도 처리 (프론트에서 펼침)
-          if (isRepeatingScheduleForYear.test(s)) {
-            return true;
-          }
-          LocalDate scheduleDate = s.getStartDate().toInstant()
-              .atZone(java.time.ZoneId.of("Asia/Seoul"))
-              .toLocalDate();
-          return scheduleDate.getYear() == targetYear;
-        })
+    return holidays.stream()
+        .filter(h -> h.getLocdate().startsWith(year))
         .collect(Collectors.toList());
   }
 
@@ -579,7 +566,7 @@ public class WorkspaceService {
     holidays.forEach(holiday -> {
       LocalDate date = LocalDate.parse(holiday.getLocdate(), HOLIDAY_DATE_FORMATTER);
       Date holidayDate = Date.from(
-          date.atStartOfDay(java.time.ZoneId.of("Asia/Seoul")).toInstant());
+          date.atStartOfDay(ScheduleRecurrenceService.SEOUL_ZONE).toInstant());
 
       combinedSchedule.add(WorkspaceScheduleItemDto.builder()
           .startDate(holidayDate)
@@ -614,6 +601,7 @@ public class WorkspaceService {
           .calendarType(schedule.getCalendarType())
           .reminderMinutes(schedule.getReminderMinutes())
           .isImportant(schedule.getIsImportant())
+          .occurrenceStart(schedule.getOccurrenceStart())
           .build());
     });
 
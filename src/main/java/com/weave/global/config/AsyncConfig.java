@@ -56,4 +56,21 @@ public class AsyncConfig {
     executor.initialize();
     return executor;
   }
-}
\ No newline at end of file
+
+  @Bean(name = "shadowEvaluationExecutor")
+  public Executor shadowEvaluationExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    // 섀도우 패턴 평가용 스레드 풀 (운영 요청에 영향이 없도록 작게 유지)
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(1000);
+    executor.setThreadNamePrefix("phishing-shadow-");
+    // 큐가 가득 차면 호출 스레드에서 실행하지 않고 거절 (샘플 드롭)
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+
+    executor.initialize();
+    return executor;
+  }
+}
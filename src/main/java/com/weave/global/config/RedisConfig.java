@@ -28,6 +28,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Slf4j
@@ -123,6 +124,19 @@ public class RedisConfig {
     return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
   }
 
+  /**
+   * 바이너리 값용 템플릿 (위치 프레임 압축 전송)
+   */
+  @Bean
+  public ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate(
+      ReactiveRedisConnectionFactory connectionFactory) {
+    RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+        .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+        .value(RedisSerializer.byteArray())
+        .build();
+    return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+  }
+
   @Bean
   public ObjectMapper redisObjectMapper() {
     ObjectMapper mapper = new ObjectMapper();
@@ -0,0 +1,45 @@
+package com.weave.global.config;
+
+import java.util.function.Consumer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * brokerChannel 인터셉터 (websocket.broker.mode=redis)
+ * 서버에서 발행한 토픽/사용자 목적지 메시지를 StompClusterRelay로 넘겨 다른 노드에도 전달
+ * 다른 노드에서 넘어온 메시지는 CLUSTER_HEADER로 구분해 다시 전달하지 않음
+ */
+@Component
+public class StompClusterInterceptor implements ChannelInterceptor {
+
+  public static final String CLUSTER_HEADER = "stompClusterForwarded";
+
+  private volatile Consumer<Message<?>> forwarder;
+
+  public void setForwarder(Consumer<Message<?>> forwarder) {
+    this.forwarder = forwarder;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    Consumer<Message<?>> current = forwarder;
+    if (current == null || Boolean.TRUE.equals(message.getHeaders().get(CLUSTER_HEADER))) {
+      return message;
+    }
+
+    SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+    if (type != null && type != SimpMessageType.MESSAGE) {
+      return message;
+    }
+
+    String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    if (destination != null && (destination.startsWith("/topic/") || destination.startsWith("/user/"))) {
+      current.accept(message);
+    }
+    return message;
+  }
+}
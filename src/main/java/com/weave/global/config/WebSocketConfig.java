@@ -1,7 +1,9 @@
 package com.weave.global.config;
 
+import com.weave.domain.location.service.LocationOutboundInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -17,11 +19,52 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   private final WebSocketAuthInterceptor webSocketAuthInterceptor;
   private final WebSocketHandshakeInterceptor webSocketHandshakeInterceptor;
+  private final LocationOutboundInterceptor locationOutboundInterceptor;
+  private final StompClusterInterceptor stompClusterInterceptor;
 
+  @Value("${websocket.broker.mode:simple}")
+  private String brokerMode;
+
+  @Value("${websocket.broker.relay.host:localhost}")
+  private String relayHost;
+
+  @Value("${websocket.broker.relay.port:61613}")
+  private int relayPort;
+
+  @Value("${websocket.broker.relay.login:guest}")
+  private String relayLogin;
+
+  @Value("${websocket.broker.relay.passcode:guest}")
+  private String relayPasscode;
+
+  /**
+   * 브로커 모드 (websocket.broker.mode)
+   * - simple: 노드 내 simple broker (단일 인스턴스)
+   * - redis: simple broker + Redis 노드 간 전달 (StompClusterRelay)
+   * - relay: 외부 STOMP 브로커 릴레이, 사용자 목적지/레지스트리도 브로커를 통해 공유
+   * 모든 모드에서 목적지(/topic, /queue, /user)는 동일
+   */
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
     // 클라이언트로 메시지를 보낼 때 prefix
-    registry.enableSimpleBroker("/topic", "/queue");
+    if ("relay".equalsIgnoreCase(brokerMode)) {
+      log.info("Using external STOMP broker relay {}:{}", relayHost, relayPort);
+      registry.enableStompBrokerRelay("/topic", "/queue")
+          .setRelayHost(relayHost)
+          .setRelayPort(relayPort)
+          .setClientLogin(relayLogin)
+          .setClientPasscode(relayPasscode)
+          .setSystemLogin(relayLogin)
+          .setSystemPasscode(relayPasscode)
+          .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+          .setUserRegistryBroadcast("/topic/simp-user-registry");
+    } else {
+      registry.enableSimpleBroker("/topic", "/queue");
+      if ("redis".equalsIgnoreCase(brokerMode)) {
+        log.info("Using simple broker with Redis cluster relay");
+        registry.configureBrokerChannel().interceptors(stompClusterInterceptor);
+      }
+    }
 
     // 클라이언트에서 메시지를 보낼 때 prefix
     registry.setApplicationDestinationPrefixes("/app");
@@ -57,4 +100,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
       log.warn("WebSocketAuthInterceptor is null!");
     }
   }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    // 세션별 위치 전송 큐의 전달 완료 신호
+    registration.interceptors(locationOutboundInterceptor);
+  }
 }
@@ -0,0 +1,300 @@
+package com.weave.global.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.weave.global.config.StompClusterInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+/**
+ * 노드 간 STOMP 메시지 전달 (websocket.broker.mode=redis)
+ * - 토픽(/topic/**): 전체 노드 채널(stomp:broadcast)로 발행해 각 노드의 simple broker가 로컬 구독자에게 전달
+ * - 사용자 목적지(/user/**): Redis 사용자 레지스트리(stomp:user:nodes:{user})에서 세션이 있는 노드만 골라 노드 채널로 전달
+ * 받은 노드는 brokerChannel에 다시 넣어 기존 목적지 해석(convertAndSendToUser 포함)을 그대로 사용
+ */
+@Slf4j
+@Service
+public class StompClusterRelay {
+
+  private static final String BROADCAST_CHANNEL = "stomp:broadcast";
+  private static final String NODE_CHANNEL_PREFIX = "stomp:node:";
+  private static final String USER_NODES_KEY_PREFIX = "stomp:user:nodes:";
+  private static final Duration USER_NODES_TTL = Duration.ofSeconds(90);
+  private static final String USER_PREFIX = "/user/";
+
+  private final StompClusterInterceptor clusterInterceptor;
+  private final MessageChannel brokerChannel;
+  private final ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final boolean enabled;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final Counter broadcastCounter;
+  private final Counter userForwardCounter;
+  private final Counter receivedCounter;
+
+  // 이 노드에 연결된 사용자별 세션
+  private final Map<String, Set<String>> localSessions = new ConcurrentHashMap<>();
+
+  // 사용자별 세션 보유 노드 (짧은 캐시)
+  private final Cache<String, Set<String>> userNodes = CacheBuilder.newBuilder()
+      .expireAfterWrite(5, TimeUnit.SECONDS)
+      .maximumSize(100_000)
+      .build();
+
+  private volatile Disposable subscription;
+
+  public StompClusterRelay(
+      StompClusterInterceptor clusterInterceptor,
+      @Qualifier("brokerChannel") MessageChannel brokerChannel,
+      ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate,
+      RedisTemplate<String, Object> redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${websocket.broker.mode:simple}") String brokerMode) {
+    this.clusterInterceptor = clusterInterceptor;
+    this.brokerChannel = brokerChannel;
+    this.reactiveBinaryRedisTemplate = reactiveBinaryRedisTemplate;
+    this.redisTemplate = redisTemplate;
+    this.enabled = "redis".equalsIgnoreCase(brokerMode);
+    this.broadcastCounter = meterRegistry.counter("stomp.cluster.forwarded", "target", "broadcast");
+    this.userForwardCounter = meterRegistry.counter("stomp.cluster.forwarded", "target", "user");
+    this.receivedCounter = meterRegistry.counter("stomp.cluster.received");
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+
+    clusterInterceptor.setForwarder(this::forward);
+    subscription = reactiveBinaryRedisTemplate
+        .listenToChannel(BROADCAST_CHANNEL, NODE_CHANNEL_PREFIX + nodeId)
+        .doOnNext(this::receive)
+        .doOnError(error -> log.error("Error in STOMP cluster subscription", error))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+        .subscribe();
+
+    log.info("Started STOMP cluster relay on node {}", nodeId);
+  }
+
+  /**
+   * 세션 연결 시 사용자 레지스트리에 이 노드 등록
+   */
+  @EventListener
+  public void handleConnected(SessionConnectedEvent event) {
+    Principal user = event.getUser();
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+    if (!enabled || user == null || sessionId == null) {
+      return;
+    }
+
+    Set<String> sessions = localSessions.compute(user.getName(), (name, current) -> {
+      Set<String> next = current != null ? current : ConcurrentHashMap.newKeySet();
+      next.add(sessionId);
+      return next;
+    });
+    publishSessionCount(user.getName(), sessions.size());
+  }
+
+  /**
+   * 세션 종료 시 사용자 레지스트리 갱신
+   */
+  @EventListener
+  public void handleDisconnect(SessionDisconnectEvent event) {
+    Principal user = event.getUser();
+    if (!enabled || user == null) {
+      return;
+    }
+
+    Set<String> sessions = localSessions.computeIfPresent(user.getName(), (name, current) -> {
+      current.remove(event.getSessionId());
+      return current.isEmpty() ? null : current;
+    });
+    publishSessionCount(user.getName(), sessions != null ? sessions.size() : 0);
+  }
+
+  /**
+   * 노드별 세션 수 TTL 갱신 (노드 장애 시 90초 후 자동 소멸)
+   */
+  @Scheduled(fixedRate = 30000)
+  public void refreshUserRegistry() {
+    if (!enabled) {
+      return;
+    }
+    localSessions.forEach((user, sessions) -> publishSessionCount(user, sessions.size()));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    clusterInterceptor.setForwarder(null);
+    if (subscription != null) {
+      subscription.dispose();
+    }
+    localSessions.keySet().forEach(user -> publishSessionCount(user, 0));
+  }
+
+  private void forward(Message<?> message) {
+    String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    byte[] payload = payloadOf(message);
+    if (destination == null || payload == null) {
+      return;
+    }
+
+    byte[] frame = encode(destination, SimpMessageHeaderAccessor.wrap(message).getContentType(),
+        payload);
+
+    if (!destination.startsWith(USER_PREFIX)) {
+      broadcastCounter.increment();
+      publish(BROADCAST_CHANNEL, frame);
+      return;
+    }
+
+    // 세션이 있는 다른 노드에만 전달 (로컬 세션은 이 노드의 사용자 목적지 처리로 전달됨)
+    for (String node : getUserNodes(userOf(destination))) {
+      if (!nodeId.equals(node)) {
+        userForwardCounter.increment();
+        publish(NODE_CHANNEL_PREFIX + node, frame);
+      }
+    }
+  }
+
+  private void receive(ReactiveSubscription.Message<String, byte[]> message) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message.getMessage()))) {
+      String origin = in.readUTF();
+      if (nodeId.equals(origin)) {
+        return;
+      }
+
+      String destination = in.readUTF();
+      String contentType = in.readUTF();
+      byte[] payload = in.readAllBytes();
+
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+      accessor.setDestination(destination);
+      if (!contentType.isEmpty()) {
+        accessor.setContentType(MimeTypeUtils.parseMimeType(contentType));
+      }
+      accessor.setHeader(StompClusterInterceptor.CLUSTER_HEADER, true);
+
+      receivedCounter.increment();
+      brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    } catch (Exception e) {
+      log.error("Failed to relay STOMP message from channel {}", message.getChannel(), e);
+    }
+  }
+
+  private Set<String> getUserNodes(String user) {
+    Set<String> cached = userNodes.getIfPresent(user);
+    if (cached != null) {
+      return cached;
+    }
+
+    Set<String> nodes = new HashSet<>();
+    try {
+      for (Object node : redisTemplate.opsForHash().keys(USER_NODES_KEY_PREFIX + user)) {
+        nodes.add(String.valueOf(node));
+      }
+    } catch (Exception e) {
+      log.debug("Failed to read STOMP user registry for {}: {}", user, e.getMessage());
+    }
+
+    userNodes.put(user, nodes);
+    return nodes;
+  }
+
+  private void publishSessionCount(String user, int count) {
+    String key = USER_NODES_KEY_PREFIX + user;
+    try {
+      if (count > 0) {
+        redisTemplate.opsForHash().put(key, nodeId, count);
+        redisTemplate.expire(key, USER_NODES_TTL);
+      } else {
+        redisTemplate.opsForHash().delete(key, nodeId);
+      }
+    } catch (Exception e) {
+      log.debug("Failed to publish STOMP user registry for {}: {}", user, e.getMessage());
+    }
+  }
+
+  private void publish(String channel, byte[] frame) {
+    reactiveBinaryRedisTemplate
+        .convertAndSend(channel, frame)
+        .timeout(Duration.ofSeconds(5))
+        .subscribe(
+            count -> log.debug("Relayed STOMP message to {} subscribers on channel: {}", count, channel),
+            error -> log.error("Failed to relay STOMP message to Redis channel: {}", channel, error)
+        );
+  }
+
+  /**
+   * /user/{user}/... 에서 사용자 이름 추출 (SimpMessagingTemplate은 '/'를 %2F로 인코딩)
+   */
+  private String userOf(String destination) {
+    int end = destination.indexOf('/', USER_PREFIX.length());
+    String user = end > 0 ? destination.substring(USER_PREFIX.length(), end)
+        : destination.substring(USER_PREFIX.length());
+    return user.replace("%2F", "/");
+  }
+
+  private byte[] payloadOf(Message<?> message) {
+    Object payload = message.getPayload();
+    if (payload instanceof byte[] bytes) {
+      return bytes;
+    }
+    if (payload instanceof String text) {
+      return text.getBytes(StandardCharsets.UTF_8);
+    }
+    log.debug("Skipping cluster relay for non-serialized payload: {}", payload.getClass());
+    return null;
+  }
+
+  private byte[] encode(String destination, MimeType contentType, byte[] payload) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeUTF(nodeId);
+      out.writeUTF(destination);
+      out.writeUTF(contentType != null ? contentType.toString() : "");
+      out.write(payload);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,28 @@
+package com.weave.global.util;
+
+/**
+ * 위경도 계산 공용 함수
+ */
+public final class GeoUtils {
+
+  private static final int EARTH_RADIUS_METERS = 6371000;
+
+  private GeoUtils() {
+  }
+
+  /**
+   * Haversine 공식을 사용한 두 지점 간 거리 계산 (미터 단위)
+   */
+  public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+    double latDistance = Math.toRadians(lat2 - lat1);
+    double lonDistance = Math.toRadians(lon2 - lon1);
+
+    double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+
+    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+    return EARTH_RADIUS_METERS * c;
+  }
+}
@@ -0,0 +1,100 @@
+package com.weave.domain.schedule.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class ReminderTimingWheelTest {
+
+  // 어떤 시간의 50분
+  private static final long START = 1_000 * 60L + 50;
+
+  private final ReminderTimingWheel wheel = new ReminderTimingWheel(START);
+
+  @Test
+  void cascadesNextHourTimersAtHourBoundary() {
+    ObjectId onBoundary = new ObjectId();
+    ObjectId laterInHour = new ObjectId();
+    ObjectId inCurrentHour = new ObjectId();
+    wheel.add(onBoundary, START + 10);
+    wheel.add(laterInHour, START + 25);
+    wheel.add(inCurrentHour, START + 5);
+
+    assertThat(wheel.advance(START + 5)).containsExactly(inCurrentHour);
+    assertThat(wheel.advance(START + 9)).isEmpty();
+    assertThat(wheel.advance(START + 10)).containsExactly(onBoundary);
+    assertThat(wheel.advance(START + 24)).isEmpty();
+    assertThat(wheel.advance(START + 25)).containsExactly(laterInHour);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void expiresTimersSeveralHoursAhead() {
+    ObjectId id = new ObjectId();
+    wheel.add(id, START + 5 * 60 + 7);
+
+    assertThat(wheel.advance(START + 5 * 60 + 6)).isEmpty();
+    assertThat(wheel.advance(START + 5 * 60 + 7)).containsExactly(id);
+  }
+
+  @Test
+  void removesTimerAfterCascade() {
+    ObjectId id = new ObjectId();
+    wheel.add(id, START + 20);
+
+    // 다음 시간 정각에 분 휠로 내려온 뒤 취소
+    assertThat(wheel.advance(START + 15)).isEmpty();
+    wheel.remove(id);
+
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.advance(START + 30)).isEmpty();
+  }
+
+  @Test
+  void rescheduleAfterCascadeMovesTimer() {
+    ObjectId id = new ObjectId();
+    wheel.add(id, START + 20);
+    wheel.advance(START + 15);
+
+    wheel.add(id, START + 40);
+
+    assertThat(wheel.advance(START + 30)).isEmpty();
+    assertThat(wheel.advance(START + 40)).containsExactly(id);
+  }
+
+  @Test
+  void expiresOverdueTimerOnNextAdvance() {
+    ObjectId id = new ObjectId();
+    wheel.add(id, START - 1);
+
+    assertThat(wheel.advance(START)).containsExactly(id);
+  }
+
+  @Test
+  void rejectsTimerBeyondSpan() {
+    assertThat(wheel.add(new ObjectId(), START + ReminderTimingWheel.MAX_SPAN_MINUTES + 1))
+        .isFalse();
+    assertThat(wheel.add(new ObjectId(), START + ReminderTimingWheel.MAX_SPAN_MINUTES))
+        .isTrue();
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  void advanceAfterLongStallExpiresAllDueTimers() {
+    ObjectId soon = new ObjectId();
+    ObjectId last = new ObjectId();
+    wheel.add(soon, START + 30);
+    wheel.add(last, START + ReminderTimingWheel.MAX_SPAN_MINUTES);
+
+    long resumed = START + ReminderTimingWheel.MAX_SPAN_MINUTES + 90;
+    assertThat(wheel.advance(resumed)).containsExactlyInAnyOrder(soon, last);
+    assertThat(wheel.size()).isZero();
+
+    // 멈춘 뒤에도 새 기준 시각으로 정상 동작
+    ObjectId next = new ObjectId();
+    wheel.add(next, resumed + 70);
+    assertThat(wheel.advance(resumed + 69)).isEmpty();
+    assertThat(wheel.advance(resumed + 70)).containsExactly(next);
+  }
+}
@@ -0,0 +1,116 @@
+package com.weave.domain.schedule.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.weave.domain.schedule.entity.Schedule;
+import com.weave.domain.schedule.repository.ScheduleRepository;
+import com.weave.domain.schedule.service.NotificationService;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService;
+import com.weave.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScheduleReminderDispatcherTest {
+
+  private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+  private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+  private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ScheduleReminderDispatcher dispatcher;
+
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    dispatcher = new ScheduleReminderDispatcher(scheduleRepository, mock(UserRepository.class),
+        mock(NotificationService.class), new ScheduleRecurrenceService(), meterRegistry, 360, 10);
+    now = System.currentTimeMillis() / MINUTE * MINUTE;
+  }
+
+  @Test
+  void claimsOneOffReminderWithoutNextDue() {
+    Schedule schedule = schedule("none", new Date(now + 10 * MINUTE), 10);
+    when(scheduleRepository.claimReminder(any(), any(), any(), any())).thenReturn(schedule);
+
+    assertThat(dispatcher.claim(schedule, now)).isTrue();
+
+    verify(scheduleRepository).claimReminder(eq(schedule.getId()), eq(new Date(now)), isNull(),
+        eq(new Date(now + 10 * MINUTE)));
+    assertThat(claimed("sent")).isEqualTo(1);
+  }
+
+  @Test
+  void claimsRecurringReminderAndMovesToNextOccurrence() {
+    Schedule schedule = schedule("daily", new Date(now + 10 * MINUTE), 10);
+    when(scheduleRepository.claimReminder(any(), any(), any(), any())).thenReturn(schedule);
+
+    assertThat(dispatcher.claim(schedule, now)).isTrue();
+
+    verify(scheduleRepository).claimReminder(eq(schedule.getId()), eq(new Date(now)),
+        eq(new Date(now + DAY)), eq(new Date(now + 10 * MINUTE)));
+    assertThat(claimed("sent")).isEqualTo(1);
+  }
+
+  @Test
+  void skipsLateRecurringReminderAndMovesPastNow() {
+    // 사흘 전 회차 알림이 밀려 있는 경우 (max-lateness 10분 초과)
+    Date start = new Date(now - 3 * DAY + 10 * MINUTE);
+    Schedule schedule = schedule("daily", start, 10);
+    when(scheduleRepository.claimReminder(any(), any(), any(), any())).thenReturn(schedule);
+
+    assertThat(dispatcher.claim(schedule, now)).isFalse();
+
+    verify(scheduleRepository).claimReminder(eq(schedule.getId()), eq(new Date(now - 3 * DAY)),
+        eq(new Date(now + DAY)), eq(start));
+    assertThat(claimed("late")).isEqualTo(1);
+    assertThat(claimed("sent")).isZero();
+  }
+
+  @Test
+  void skipsLateOneOffReminder() {
+    Schedule schedule = schedule("none", new Date(now - 20 * MINUTE), 10);
+    when(scheduleRepository.claimReminder(any(), any(), any(), any())).thenReturn(schedule);
+
+    assertThat(dispatcher.claim(schedule, now)).isFalse();
+
+    verify(scheduleRepository).claimReminder(eq(schedule.getId()), eq(new Date(now - 30 * MINUTE)),
+        isNull(), eq(new Date(now - 20 * MINUTE)));
+    assertThat(claimed("late")).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotSendWhenAnotherNodeClaimed() {
+    Schedule schedule = schedule("none", new Date(now + 10 * MINUTE), 10);
+
+    assertThat(dispatcher.claim(schedule, now)).isFalse();
+    assertThat(claimed("sent")).isZero();
+    assertThat(claimed("late")).isZero();
+  }
+
+  private double claimed(String result) {
+    return meterRegistry.counter("schedule.reminder.claimed", "result", result).count();
+  }
+
+  private static Schedule schedule(String repeatType, Date start, int reminderMinutes) {
+    return Schedule.builder()
+        .id(new ObjectId())
+        .title("test")
+        .startDate(start)
+        .endDate(new Date(start.getTime() + 60 * MINUTE))
+        .repeatType(repeatType)
+        .reminderMinutes(reminderMinutes)
+        .reminderDueAt(new Date(start.getTime() - reminderMinutes * MINUTE))
+        .build();
+  }
+}
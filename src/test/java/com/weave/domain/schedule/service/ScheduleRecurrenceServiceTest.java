@@ -0,0 +1,138 @@
+package com.weave.domain.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.weave.domain.schedule.entity.Schedule;
+import com.weave.domain.schedule.service.ScheduleRecurrenceService.Occurrence;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ScheduleRecurrenceServiceTest {
+
+  private final ScheduleRecurrenceService service = new ScheduleRecurrenceService();
+
+  @Test
+  void monthlyClampsToMonthEndWithoutDrift() {
+    Schedule schedule = schedule("monthly", "solar", at(2024, 1, 31, 10, 0));
+
+    assertThat(startDates(schedule, at(2024, 1, 1, 0, 0), at(2024, 6, 1, 0, 0)))
+        .containsExactly(
+            LocalDate.of(2024, 1, 31),
+            LocalDate.of(2024, 2, 29),
+            LocalDate.of(2024, 3, 31),
+            LocalDate.of(2024, 4, 30),
+            LocalDate.of(2024, 5, 31));
+  }
+
+  @Test
+  void yearlyFromLeapDayClampsInCommonYears() {
+    Schedule schedule = schedule("yearly", "solar", at(2024, 2, 29, 9, 0));
+
+    assertThat(startDates(schedule, at(2025, 1, 1, 0, 0), at(2029, 1, 1, 0, 0)))
+        .containsExactly(
+            LocalDate.of(2025, 2, 28),
+            LocalDate.of(2026, 2, 28),
+            LocalDate.of(2027, 2, 28),
+            LocalDate.of(2028, 2, 29));
+  }
+
+  @Test
+  void lunarYearlyFollowsLunarDate() {
+    // 음력 8월 15일
+    Schedule schedule = schedule("yearly", "lunar", at(2024, 9, 17, 12, 0));
+
+    assertThat(startDates(schedule, at(2025, 1, 1, 0, 0), at(2026, 1, 1, 0, 0)))
+        .containsExactly(LocalDate.of(2025, 10, 6));
+  }
+
+  @Test
+  void lunarYearlyFromLeapMonthRepeatsOnRegularMonth() {
+    // 2023년 음력 윤2월 10일 -> 2024년 음력 2월 10일
+    Schedule schedule = schedule("yearly", "lunar", at(2023, 3, 31, 12, 0));
+
+    assertThat(startDates(schedule, at(2024, 1, 1, 0, 0), at(2025, 1, 1, 0, 0)))
+        .containsExactly(LocalDate.of(2024, 3, 19));
+  }
+
+  @Test
+  void repeatUntilIsInclusive() {
+    Schedule schedule = schedule("weekly", "solar", at(2025, 1, 6, 9, 0)).toBuilder()
+        .repeatUntil(at(2025, 1, 27, 9, 0))
+        .build();
+
+    assertThat(startDates(schedule, at(2025, 1, 1, 0, 0), at(2026, 1, 1, 0, 0)))
+        .containsExactly(
+            LocalDate.of(2025, 1, 6),
+            LocalDate.of(2025, 1, 13),
+            LocalDate.of(2025, 1, 20),
+            LocalDate.of(2025, 1, 27));
+    assertThat(service.nextOccurrence(schedule, at(2025, 1, 28, 0, 0))).isNull();
+  }
+
+  @Test
+  void exceptionDatesAreSkipped() {
+    Schedule schedule = schedule("daily", "solar", at(2025, 3, 1, 23, 30)).toBuilder()
+        .exceptionDates(List.of("2025-03-02", "2025-03-04"))
+        .build();
+
+    assertThat(startDates(schedule, at(2025, 3, 1, 0, 0), at(2025, 3, 6, 0, 0)))
+        .containsExactly(
+            LocalDate.of(2025, 3, 1),
+            LocalDate.of(2025, 3, 3),
+            LocalDate.of(2025, 3, 5));
+    assertThat(service.nextOccurrence(schedule, at(2025, 3, 2, 0, 0)).startDate())
+        .isEqualTo(at(2025, 3, 3, 23, 30));
+  }
+
+  @Test
+  void dailyAcrossYearBoundaryHasNoGapOrDuplicate() {
+    // 서울 기준 12/31 23:30 (UTC로는 같은 날 14:30)
+    Schedule schedule = schedule("daily", "solar", at(2020, 12, 31, 23, 30));
+
+    assertThat(startDates(schedule, at(2024, 12, 30, 0, 0), at(2025, 1, 3, 0, 0)))
+        .containsExactly(
+            LocalDate.of(2024, 12, 30),
+            LocalDate.of(2024, 12, 31),
+            LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 1, 2));
+  }
+
+  @Test
+  void weeklyAndMonthlyStartAtFirstOccurrenceOfLaterYear() {
+    Schedule weekly = schedule("weekly", "solar", at(2018, 12, 30, 8, 0));
+    Schedule monthly = schedule("monthly", "solar", at(2018, 12, 31, 8, 0));
+
+    assertThat(service.nextOccurrence(weekly, at(2025, 1, 1, 0, 0)).startDate())
+        .isEqualTo(at(2025, 1, 5, 8, 0));
+    assertThat(startDates(monthly, at(2024, 12, 1, 0, 0), at(2025, 3, 1, 0, 0)))
+        .containsExactly(
+            LocalDate.of(2024, 12, 31),
+            LocalDate.of(2025, 1, 31),
+            LocalDate.of(2025, 2, 28));
+  }
+
+  private List<LocalDate> startDates(Schedule schedule, Date from, Date to) {
+    return service.occurrences(schedule, from, to)
+        .map(Occurrence::startDate)
+        .map(date -> date.toInstant().atZone(ScheduleRecurrenceService.SEOUL_ZONE).toLocalDate())
+        .toList();
+  }
+
+  private static Schedule schedule(String repeatType, String calendarType, Date start) {
+    return Schedule.builder()
+        .title("test")
+        .startDate(start)
+        .endDate(new Date(start.getTime() + 60 * 60 * 1000))
+        .repeatType(repeatType)
+        .calendarType(calendarType)
+        .build();
+  }
+
+  private static Date at(int year, int month, int day, int hour, int minute) {
+    return Date.from(LocalDateTime.of(year, month, day, hour, minute)
+        .atZone(ScheduleRecurrenceService.SEOUL_ZONE).toInstant());
+  }
+}